@@ -0,0 +1,222 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.MockEmployee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, least-recently-used lookup of employees by id, fed from every roster load plus single-employee reads and
+ * creates. Entries expire after {@code ttl}. Ids the server answered 404 for are remembered for {@code negativeTtl}
+ * so repeated lookups of unknown ids do not reach the server either. Hits, misses and negative hits are counted in
+ * {@code employee.id.index.lookups}. A roster reload drops every id it no longer contains.
+ */
+@Slf4j
+@Component
+public final class EmployeeIdIndex implements RosterListener {
+
+    public enum Result { HIT, MISS, NEGATIVE_HIT }
+
+    public record Lookup(Result result, MockEmployee employee) {
+    }
+
+    private static final Lookup MISS = new Lookup(Result.MISS, null);
+    private static final Lookup NEGATIVE_HIT = new Lookup(Result.NEGATIVE_HIT, null);
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Entry> entries;
+    private final Map<UUID, Instant> missing;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter negativeHits;
+    private final Counter nameHits;
+    private final Counter nameMisses;
+
+    @Autowired
+    public EmployeeIdIndex(@Value("${employeeIdIndex.maxEntries:100000}") int maxEntries,
+                           @Value("${employeeIdIndex.ttl:5m}") Duration ttl,
+                           @Value("${employeeIdIndex.negativeTtl:10s}") Duration negativeTtl,
+                           MeterRegistry meterRegistry) {
+        this(maxEntries, ttl, negativeTtl, meterRegistry, Clock.systemUTC());
+    }
+
+    public EmployeeIdIndex(int maxEntries, Duration ttl, Duration negativeTtl, MeterRegistry meterRegistry,
+                           Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > EmployeeIdIndex.this.maxEntries;
+            }
+        };
+        this.missing = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Instant> eldest) {
+                return size() > EmployeeIdIndex.this.maxEntries;
+            }
+        };
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.negativeHits = lookupCounter(meterRegistry, "negative_hit");
+        this.nameHits = nameLookupCounter(meterRegistry, "hit");
+        this.nameMisses = nameLookupCounter(meterRegistry, "miss");
+        Gauge.builder("employee.id.index.size", this, EmployeeIdIndex::size)
+                .description("Employees currently held by the id index")
+                .register(meterRegistry);
+    }
+
+    public Lookup lookup(UUID id) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                if (now.isBefore(entry.expiresAt)) {
+                    hits.increment();
+                    return new Lookup(Result.HIT, entry.employee);
+                }
+                entries.remove(id);
+            }
+            Instant missingUntil = missing.get(id);
+            if (missingUntil != null) {
+                if (now.isBefore(missingUntil)) {
+                    negativeHits.increment();
+                    return NEGATIVE_HIT;
+                }
+                missing.remove(id);
+            }
+            misses.increment();
+            return MISS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the name of {@code id} while its entry is live, so a delete by name only targets an employee the
+     * server reported recently.
+     */
+    public Optional<String> findName(UUID id) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            String name = entry == null || !now.isBefore(entry.expiresAt) ? null : entry.employee.getName();
+            (name == null ? nameMisses : nameHits).increment();
+            return Optional.ofNullable(name);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(MockEmployee employee) {
+        if (employee == null || employee.getId() == null) {
+            return;
+        }
+        Instant expiresAt = clock.instant().plus(ttl);
+        lock.lock();
+        try {
+            index(employee, expiresAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void putMissing(UUID id) {
+        Instant missingUntil = clock.instant().plus(negativeTtl);
+        lock.lock();
+        try {
+            entries.remove(id);
+            missing.put(id, missingUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void rosterReloaded(RosterSnapshot snapshot) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        Set<UUID> ids = new HashSet<>();
+        for (MockEmployee employee : snapshot.employees()) {
+            if (employee.getId() != null) {
+                ids.add(employee.getId());
+            }
+        }
+        lock.lock();
+        try {
+            // gone from the server, whoever removed them
+            entries.keySet().retainAll(ids);
+            for (MockEmployee employee : snapshot.employees()) {
+                if (employee.getId() != null) {
+                    index(employee, expiresAt);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Fed id index from roster version {}", snapshot.version());
+    }
+
+    @Override
+    public void employeeAdded(MockEmployee employee, RosterSnapshot snapshot) {
+        put(employee);
+    }
+
+    @Override
+    public void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot) {
+        putMissing(employee.getId());
+    }
+
+    private void index(MockEmployee employee, Instant expiresAt) {
+        entries.put(employee.getId(), new Entry(employee, expiresAt));
+        missing.remove(employee.getId());
+    }
+
+    private static Counter nameLookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.id.index.name.lookups")
+                .description("Id to name resolutions for deletes; misses cost an extra downstream read")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.id.index.lookups")
+                .description("Employee lookups by id answered by the local id index")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(MockEmployee employee, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,438 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.client.RosterVersion;
+import com.reliaquest.api.client.VersionedRoster;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.MockEmployee;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the latest {@link RosterSnapshot} of the downstream employee roster.
+ * <p>
+ * A snapshot is served as is for {@code ttl}, refreshed in the background from {@code ttl - refreshAhead} and served
+ * stale for up to {@code staleWhileRevalidate} past {@code ttl}. Local creates and deletes, changes from the server's
+ * change log ({@code employeeCache.incrementalSync}) and pushed changes are applied to it incrementally.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final MockEmployeeGateway mockEmployeeGateway;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration staleWhileRevalidate;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final List<RosterListener> listeners;
+    private final boolean incrementalSync;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    // guarded by stateLock: the list behind the last reload and the version of the snapshot built from it
+    private List<MockEmployee> lastFetched;
+    private long lastFetchedVersion;
+    // guarded by stateLock: position of the current snapshot in the server's change log, null when unknown
+    private RosterVersion syncedTo;
+
+    @Autowired
+    public EmployeeRosterCache(MockEmployeeGateway mockEmployeeGateway,
+                               ObjectProvider<RosterListener> listeners,
+                               @Value("${employeeCache.ttl:30s}") Duration ttl,
+                               @Value("${employeeCache.refreshAhead:5s}") Duration refreshAhead,
+                               @Value("${employeeCache.staleWhileRevalidate:60s}") Duration staleWhileRevalidate,
+                               @Value("${employeeCache.incrementalSync:true}") boolean incrementalSync,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(mockEmployeeGateway, ttl, refreshAhead, staleWhileRevalidate, incrementalSync, Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(virtualThreads
+                        ? Thread.ofVirtual().name("employee-roster-refresh").factory()
+                        : Thread.ofPlatform().name("employee-roster-refresh").daemon().factory()),
+                listeners.orderedStream().toList());
+    }
+
+    public EmployeeRosterCache(MockEmployeeGateway mockEmployeeGateway, Duration ttl, Duration refreshAhead,
+                               Duration staleWhileRevalidate, Clock clock, Executor refreshExecutor,
+                               List<RosterListener> listeners) {
+        this(mockEmployeeGateway, ttl, refreshAhead, staleWhileRevalidate, false, clock, refreshExecutor, listeners);
+    }
+
+    public EmployeeRosterCache(MockEmployeeGateway mockEmployeeGateway, Duration ttl, Duration refreshAhead,
+                               Duration staleWhileRevalidate, boolean incrementalSync, Clock clock,
+                               Executor refreshExecutor, List<RosterListener> listeners) {
+        if (refreshAhead.compareTo(ttl) > 0) {
+            throw new IllegalArgumentException("employeeCache.refreshAhead must not exceed employeeCache.ttl");
+        }
+        this.mockEmployeeGateway = mockEmployeeGateway;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.listeners = List.copyOf(listeners);
+        this.incrementalSync = incrementalSync;
+    }
+
+    /**
+     * Returns the current roster, loading it synchronously only when there is none or it is too stale to serve.
+     */
+    public RosterSnapshot get() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null || !isServable(snapshot)) {
+            return loadSynchronously();
+        }
+        if (snapshot.age(clock.instant()).compareTo(ttl.minus(refreshAhead)) >= 0) {
+            refreshInBackground();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the current roster with a fresh fetch, however young the current snapshot is.
+     */
+    public RosterSnapshot refresh(RequestPriority priority) {
+        loadLock.lock();
+        try {
+            log.info("Refreshing employee roster on demand");
+            return reload(priority);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * The current snapshot as it is, without loading or refreshing it however old it is; empty before the first load.
+     */
+    public Optional<RosterSnapshot> lastLoaded() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Position of the current snapshot in the server's change log, or null when it is not known.
+     */
+    public RosterVersion position() {
+        stateLock.lock();
+        try {
+            return current.get() == null ? null : syncedTo;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Applies one change pushed by the server at {@code version}. Changes at or before the current position are
+     * ignored; one that does not directly follow it is not applied and false is returned, leaving the gap to a sync.
+     */
+    public boolean changePushed(RosterVersion version, EmployeeChange change) {
+        stateLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot == null || syncedTo == null || !syncedTo.epoch().equals(version.epoch())) {
+                return false;
+            }
+            if (version.sequence() <= syncedTo.sequence()) {
+                return true;
+            }
+            if (version.sequence() != syncedTo.sequence() + 1) {
+                log.debug("Pushed change {} does not follow roster position {}", version, syncedTo);
+                return false;
+            }
+            RosterSnapshot updated = applyChanges(snapshot, List.of(change));
+            if (updated == null) {
+                return false;
+            }
+            current.set(new RosterSnapshot(updated.version(), clock.instant(), updated.employees()));
+            syncedTo = version;
+            return true;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Renews the current snapshot's age when the push channel reports the server has no changes after
+     * {@code version} and the snapshot is at that position.
+     */
+    public void pushConfirmed(RosterVersion version) {
+        stateLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null && version != null && version.equals(syncedTo)) {
+                current.set(new RosterSnapshot(snapshot.version(), clock.instant(), snapshot.employees()));
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Starts a background refresh of a loaded roster, after the push channel reported changes it cannot deliver.
+     */
+    public void changesMissed() {
+        if (current.get() != null) {
+            refreshInBackground();
+        }
+    }
+
+    public void employeeCreated(MockEmployee employee) {
+        if (employee == null || employee.getId() == null) {
+            return;
+        }
+        stateLock.lock();
+        try {
+            mutations.incrementAndGet();
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                RosterSnapshot updated = snapshot.withAdded(versions.incrementAndGet(), employee);
+                applyLocalChange(updated, () -> {
+                    find(snapshot, employee.getId())
+                            .ifPresent(replaced -> listeners.forEach(listener -> listener.employeeRemoved(replaced, updated)));
+                    listeners.forEach(listener -> listener.employeeAdded(employee, updated));
+                });
+                log.debug("Applied local create of employee {} to roster snapshot", employee.getId());
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public void employeeDeleted(UUID id) {
+        stateLock.lock();
+        try {
+            mutations.incrementAndGet();
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                RosterSnapshot updated = snapshot.withRemoved(versions.incrementAndGet(), id);
+                applyLocalChange(updated, () -> find(snapshot, id)
+                        .ifPresent(removed -> listeners.forEach(listener -> listener.employeeRemoved(removed, updated))));
+                log.debug("Applied local delete of employee {} to roster snapshot", id);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void applyLocalChange(RosterSnapshot updated, Runnable notifyListeners) {
+        try {
+            notifyListeners.run();
+            current.set(updated);
+        } catch (RuntimeException e) {
+            // a view could not follow the change; drop the snapshot so the next read rebuilds everything
+            log.warn("Failed to apply local roster change to derived views, forcing reload {}", e.getMessage());
+            current.set(null);
+        }
+    }
+
+    private static Optional<MockEmployee> find(RosterSnapshot snapshot, UUID id) {
+        return snapshot.employees().stream()
+                .filter(existing -> Objects.equals(existing.getId(), id))
+                .findFirst();
+    }
+
+    private boolean isServable(RosterSnapshot snapshot) {
+        return snapshot.age(clock.instant()).compareTo(ttl.plus(staleWhileRevalidate)) < 0;
+    }
+
+    private RosterSnapshot loadSynchronously() {
+        loadLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null && isServable(snapshot)) {
+                return snapshot;
+            }
+            log.info("Loading employee roster synchronously");
+            return reload(RequestPriority.USER);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    log.debug("Refreshing employee roster in background");
+                    reload(RequestPriority.BACKGROUND);
+                } catch (Exception e) {
+                    log.warn("Background refresh of employee roster failed, keeping stale snapshot {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.warn("Could not schedule background refresh of employee roster {}", e.getMessage());
+        }
+    }
+
+    private RosterSnapshot reload(RequestPriority priority) {
+        if (incrementalSync) {
+            RosterSnapshot synced = sync(priority);
+            if (synced != null) {
+                return synced;
+            }
+        }
+        long mutationStamp = mutations.get();
+        VersionedRoster fetched = mockEmployeeGateway.getVersionedEmployees(priority);
+        List<MockEmployee> employees = fetched == null || fetched.roster() == null || fetched.roster().data() == null
+                ? Collections.emptyList()
+                : fetched.roster().data();
+        RosterVersion version = fetched == null ? null : fetched.version();
+        stateLock.lock();
+        try {
+            RosterSnapshot previous = current.get();
+            if (previous != null && mutations.get() != mutationStamp) {
+                // a local create/delete landed while fetching; the fetched list may predate it
+                log.debug("Discarding roster fetched concurrently with a local change");
+                return previous;
+            }
+            if (previous != null && version != null && version.isOlderThan(syncedTo)) {
+                log.debug("Discarding roster {} older than the synced roster {}", version, syncedTo);
+                return previous;
+            }
+            syncedTo = version;
+            if (previous != null && employees == lastFetched && previous.version() == lastFetchedVersion) {
+                RosterSnapshot renewed = new RosterSnapshot(previous.version(), clock.instant(), previous.employees());
+                current.set(renewed);
+                log.debug("Roster version {} unchanged downstream, renewed without rebuilding views", renewed.version());
+                return renewed;
+            }
+            RosterSnapshot snapshot = new RosterSnapshot(versions.incrementAndGet(), clock.instant(), employees);
+            listeners.forEach(listener -> listener.rosterReloaded(snapshot));
+            current.set(snapshot);
+            lastFetched = employees;
+            lastFetchedVersion = snapshot.version();
+            log.debug("Installed roster snapshot version {} with {} employees", snapshot.version(), employees.size());
+            return snapshot;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Brings the current snapshot up to date from the server's change log. Returns null when that is not possible and
+     * the roster has to be reloaded in full.
+     */
+    private RosterSnapshot sync(RequestPriority priority) {
+        RosterVersion since;
+        stateLock.lock();
+        try {
+            since = current.get() == null ? null : syncedTo;
+        } finally {
+            stateLock.unlock();
+        }
+        if (since == null) {
+            return null;
+        }
+        long mutationStamp = mutations.get();
+        EmployeeChanges changes = mockEmployeeGateway.getEmployeeChanges(since, priority);
+        if (changes.resyncRequired()) {
+            log.info("Roster change log no longer covers {}, reloading the full roster", since);
+            return null;
+        }
+        stateLock.lock();
+        try {
+            RosterSnapshot previous = current.get();
+            if (previous == null) {
+                return null;
+            }
+            if (!since.equals(syncedTo) || mutations.get() != mutationStamp) {
+                // the roster moved on while fetching; these changes are retried from the cursor next time if needed
+                log.debug("Discarding roster changes fetched concurrently with another update");
+                return previous;
+            }
+            RosterSnapshot updated = applyChanges(previous, changes.changes());
+            if (updated == null) {
+                return null;
+            }
+            RosterSnapshot synced = new RosterSnapshot(updated.version(), clock.instant(), updated.employees());
+            current.set(synced);
+            syncedTo = new RosterVersion(changes.epoch(), changes.sequence());
+            log.debug("Synced roster to {} with {} changes, now version {}", syncedTo, changes.changes().size(),
+                    synced.version());
+            return synced;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of server changes in one pass; replaying a change is a no-op. Returns the snapshot now current,
+     * or null if a view could not follow.
+     */
+    private RosterSnapshot applyChanges(RosterSnapshot snapshot, List<EmployeeChange> changes) {
+        // latest state per changed id, in order of first change; null marks a delete
+        Map<UUID, MockEmployee> pending = new LinkedHashMap<>();
+        for (EmployeeChange change : changes) {
+            pending.put(change.id(), change.type() == EmployeeChange.Type.CREATED ? change.employee() : null);
+        }
+        List<MockEmployee> removed = new ArrayList<>();
+        List<MockEmployee> added = new ArrayList<>();
+        List<MockEmployee> employees = new ArrayList<>(snapshot.employees().size() + pending.size());
+        for (MockEmployee existing : snapshot.employees()) {
+            if (existing.getId() == null || !pending.containsKey(existing.getId())) {
+                employees.add(existing);
+                continue;
+            }
+            MockEmployee latest = pending.remove(existing.getId());
+            if (existing.equals(latest)) {
+                employees.add(existing);
+            } else {
+                removed.add(existing);
+                if (latest != null) {
+                    added.add(latest);
+                }
+            }
+        }
+        pending.values().stream().filter(Objects::nonNull).forEach(added::add);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return snapshot;
+        }
+        employees.addAll(added);
+        RosterSnapshot updated = new RosterSnapshot(versions.incrementAndGet(), snapshot.fetchedAt(), employees);
+        applyLocalChange(updated, () -> {
+            removed.forEach(employee -> listeners.forEach(listener -> listener.employeeRemoved(employee, updated)));
+            added.forEach(employee -> listeners.forEach(listener -> listener.employeeAdded(employee, updated)));
+        });
+        return current.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
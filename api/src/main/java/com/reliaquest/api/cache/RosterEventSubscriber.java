@@ -0,0 +1,258 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.client.RosterVersion;
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import com.reliaquest.api.model.EmployeeChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link EmployeeRosterCache} current from the mock server's {@code /events} stream, resuming from the cache's
+ * change log position and reconnecting with jittered backoff.
+ */
+@Slf4j
+@Component
+public class RosterEventSubscriber {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final EmployeeRosterCache rosterCache;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final URI eventsUri;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+    private final Duration maxReconnectDelay;
+    private final Duration idleTimeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("employee-roster-events-watchdog").daemon().factory());
+
+    private volatile boolean running;
+    private volatile long lastActivity;
+    private Thread worker;
+
+    @Autowired
+    public RosterEventSubscriber(EmployeeRosterCache rosterCache, AdaptiveRateLimiter rateLimiter,
+                                 @Value("${employeeService.url}") String employeeServiceUrl,
+                                 @Value("${employeeEvents.enabled:false}") boolean enabled,
+                                 @Value("${employeeEvents.reconnectDelay:1s}") Duration reconnectDelay,
+                                 @Value("${employeeEvents.maxReconnectDelay:60s}") Duration maxReconnectDelay,
+                                 @Value("${employeeEvents.idleTimeout:45s}") Duration idleTimeout) {
+        this.rosterCache = rosterCache;
+        this.rateLimiter = rateLimiter;
+        this.eventsUri = URI.create(employeeServiceUrl + "/events");
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+        this.idleTimeout = idleTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("employee-roster-events").start(this::run);
+        log.info("Subscribing to roster events at {}", eventsUri);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        watchdog.shutdownNow();
+    }
+
+    private void run() {
+        Duration delay = reconnectDelay;
+        while (running) {
+            boolean subscribed = false;
+            Duration wait = delay;
+            try {
+                subscribed = subscribe();
+            } catch (DownstreamThrottledException e) {
+                wait = max(e.getRetryAfter(), delay);
+            } catch (IOException e) {
+                log.warn("Roster event stream failed {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (subscribed) {
+                // the stream was up; reconnect promptly and start backing off afresh
+                wait = reconnectDelay;
+                delay = reconnectDelay;
+            } else {
+                delay = min(delay.multipliedBy(2), maxReconnectDelay);
+            }
+            try {
+                Thread.sleep(jittered(wait));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Opens the stream and consumes it until it ends. Returns whether the server accepted the subscription.
+     */
+    private boolean subscribe() throws IOException, InterruptedException {
+        RosterVersion from = rosterCache.position();
+        HttpRequest.Builder request = HttpRequest.newBuilder(eventsUri)
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET();
+        if (from != null) {
+            request.header(LAST_EVENT_ID, from.value());
+        }
+        AdaptiveRateLimiter.Permit permit = rateLimiter.acquire(RequestPriority.BACKGROUND);
+        HttpResponse<InputStream> response;
+        boolean throttled = false;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+            throttled = response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value();
+        } finally {
+            permit.complete(throttled);
+        }
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                log.info("Roster event subscription refused with status {}", response.statusCode());
+                return false;
+            }
+            log.info("Roster event stream open after {}", from == null ? "nothing" : from.value());
+            lastActivity = System.nanoTime();
+            ScheduledFuture<?> idleCheck = watchdog.scheduleAtFixedRate(() -> closeIfIdle(body),
+                    idleTimeout.toMillis() / 2, idleTimeout.toMillis() / 2, TimeUnit.MILLISECONDS);
+            try {
+                consume(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), from);
+            } finally {
+                idleCheck.cancel(false);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads events until the stream ends, applying each to the roster cache. {@code from} is the position the stream
+     * resumes after.
+     */
+    void consume(BufferedReader reader, RosterVersion from) throws IOException {
+        RosterVersion lastSeen = from;
+        String event = null;
+        String id = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lastActivity = System.nanoTime();
+            if (line.isEmpty()) {
+                if (event != null) {
+                    lastSeen = dispatch(event, RosterVersion.parse(id), data.toString(), lastSeen);
+                }
+                event = null;
+                id = null;
+                data.setLength(0);
+            } else if (line.startsWith(":")) {
+                // heartbeat: the server has nothing after what it already sent
+                rosterCache.pushConfirmed(lastSeen);
+            } else {
+                int colon = line.indexOf(':');
+                String field = colon < 0 ? line : line.substring(0, colon);
+                String value = colon < 0 ? "" : line.substring(colon + 1);
+                if (value.startsWith(" ")) {
+                    value = value.substring(1);
+                }
+                switch (field) {
+                    case "event" -> event = value;
+                    case "id" -> id = value;
+                    case "data" -> data.append(data.isEmpty() ? "" : "\n").append(value);
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    private RosterVersion dispatch(String event, RosterVersion version, String data, RosterVersion lastSeen)
+            throws IOException {
+        switch (event) {
+            case "created", "deleted" -> {
+                EmployeeChange change = objectMapper.readValue(data, EmployeeChange.class);
+                if (version == null || !rosterCache.changePushed(version, change)) {
+                    rosterCache.changesMissed();
+                }
+                log.debug("Applied pushed roster change {} {}", event, version);
+                return version == null ? lastSeen : version;
+            }
+            case "resync" -> {
+                log.info("Roster event stream cannot resume after {}, refreshing the roster",
+                        lastSeen == null ? "nothing" : lastSeen.value());
+                rosterCache.changesMissed();
+                return version == null ? lastSeen : version;
+            }
+            default -> {
+                return lastSeen;
+            }
+        }
+    }
+
+    private void closeIfIdle(InputStream body) {
+        if (System.nanoTime() - lastActivity > idleTimeout.toNanos()) {
+            log.warn("Roster event stream silent for {}, reconnecting", idleTimeout);
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("Failed to close idle roster event stream {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Duration jittered(Duration delay) {
+        long millis = Math.max(1, delay.toMillis());
+        return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.MockEmployee;
+
+/**
+ * Derived view of the roster kept in step with {@link EmployeeRosterCache}. Callbacks run while the cache holds its
+ * state lock and before the new snapshot is published, so a listener that throws aborts the change.
+ */
+public interface RosterListener {
+
+    void rosterReloaded(RosterSnapshot snapshot);
+
+    void employeeAdded(MockEmployee employee, RosterSnapshot snapshot);
+
+    void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot);
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.MockEmployee;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned copy of the downstream employee roster.
+ * Every change (full reload or local create/delete) produces a new snapshot with a higher version.
+ */
+public record RosterSnapshot(long version, Instant fetchedAt, List<MockEmployee> employees) {
+
+    public RosterSnapshot {
+        employees = List.copyOf(employees);
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    RosterSnapshot withAdded(long newVersion, MockEmployee employee) {
+        List<MockEmployee> copy = new ArrayList<>(employees.size() + 1);
+        for (MockEmployee existing : employees) {
+            if (!Objects.equals(existing.getId(), employee.getId())) {
+                copy.add(existing);
+            }
+        }
+        copy.add(employee);
+        return new RosterSnapshot(newVersion, fetchedAt, copy);
+    }
+
+    RosterSnapshot withRemoved(long newVersion, UUID id) {
+        List<MockEmployee> copy = new ArrayList<>(employees.size());
+        for (MockEmployee existing : employees) {
+            if (!Objects.equals(existing.getId(), id)) {
+                copy.add(existing);
+            }
+        }
+        return new RosterSnapshot(newVersion, fetchedAt, copy);
+    }
+}
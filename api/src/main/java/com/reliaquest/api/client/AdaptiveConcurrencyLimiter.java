@@ -0,0 +1,300 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-operation limit on calls in flight to the mock employee server, learned from round-trip times in the manner of
+ * TCP Vegas. At the limit, user calls queue for up to {@code maxQueueWait}; other calls are rejected with a
+ * {@link DownstreamThrottledException}. 429s leave the limit alone.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration maxQueueWait;
+    private final int maxQueued;
+    private final LongSupplier nanoTime;
+    private final Map<DownstreamOperation, OperationLimit> limits = new EnumMap<>(DownstreamOperation.class);
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(@Value("${employeeConcurrency.enabled:true}") boolean enabled,
+                                      @Value("${employeeConcurrency.initialLimit:20}") int initialLimit,
+                                      @Value("${employeeConcurrency.minLimit:2}") int minLimit,
+                                      @Value("${employeeConcurrency.maxLimit:200}") int maxLimit,
+                                      @Value("${employeeConcurrency.maxQueueWait:100ms}") Duration maxQueueWait,
+                                      @Value("${employeeConcurrency.maxQueued:50}") int maxQueued,
+                                      MeterRegistry meterRegistry) {
+        this(enabled, initialLimit, minLimit, maxLimit, maxQueueWait, maxQueued, meterRegistry, System::nanoTime);
+    }
+
+    public AdaptiveConcurrencyLimiter(boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                                      Duration maxQueueWait, int maxQueued, MeterRegistry meterRegistry,
+                                      LongSupplier nanoTime) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "employeeConcurrency limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueWait = maxQueueWait;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.nanoTime = nanoTime;
+        for (DownstreamOperation operation : DownstreamOperation.values()) {
+            OperationLimit limit = new OperationLimit(operation, initialLimit, meterRegistry);
+            limits.put(operation, limit);
+            String tag = operation.name().toLowerCase();
+            Gauge.builder("employee.downstream.concurrency.limit", limit, OperationLimit::limit)
+                    .description("Learned limit on concurrent calls to the mock employee server")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.downstream.concurrency.inflight", limit, OperationLimit::inFlight)
+                    .description("Calls to the mock employee server in flight")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.downstream.concurrency.queued", limit, OperationLimit::queued)
+                    .description("Calls waiting for room under the concurrency limit")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * A limiter that lets every call through without measuring anything.
+     */
+    public static AdaptiveConcurrencyLimiter unlimited() {
+        return new AdaptiveConcurrencyLimiter(false, 1, 1, 1, Duration.ZERO, 0, new SimpleMeterRegistry(),
+                System::nanoTime);
+    }
+
+    /**
+     * Takes a slot for one call. Every permit must be completed exactly once.
+     *
+     * @throws DownstreamThrottledException if the operation stayed at its limit for as long as {@code priority} may
+     *                                      wait
+     */
+    public Permit acquire(DownstreamOperation operation, RequestPriority priority) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        return limits.get(operation).acquire(priority == RequestPriority.USER ? maxQueueWait.toNanos() : 0);
+    }
+
+    public int limit(DownstreamOperation operation) {
+        return limits.get(operation).limit();
+    }
+
+    public int inFlight(DownstreamOperation operation) {
+        return limits.get(operation).inFlight();
+    }
+
+    public int queued(DownstreamOperation operation) {
+        return limits.get(operation).queued();
+    }
+
+    /**
+     * How a call went, as far as congestion is concerned.
+     */
+    public enum Result {
+        /** The server answered, successfully or with a client error; the round trip is a latency sample. */
+        ANSWERED,
+        /** Timeout, connection failure or server error: treated as a sign of overload. */
+        DROPPED,
+        /** Says nothing about congestion, such as a 429 or a call rejected before it was sent. */
+        IGNORED
+    }
+
+    public static final class Permit {
+
+        private static final Permit NONE = new Permit(null, 0, 0);
+
+        private final OperationLimit limit;
+        private final long startedAt;
+        private final int inFlightAtStart;
+
+        private Permit(OperationLimit limit, long startedAt, int inFlightAtStart) {
+            this.limit = limit;
+            this.startedAt = startedAt;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void complete(Result result) {
+            if (limit != null) {
+                limit.complete(this, result);
+            }
+        }
+    }
+
+    private final class OperationLimit {
+
+        private final DownstreamOperation operation;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private final Counter rejected;
+
+        private double limit;
+        private int inFlight;
+        private int queued;
+        private long noLoadRtt;
+        private long samplesUntilProbe;
+
+        OperationLimit(DownstreamOperation operation, int initialLimit, MeterRegistry meterRegistry) {
+            this.operation = operation;
+            this.limit = initialLimit;
+            this.samplesUntilProbe = nextProbe(initialLimit);
+            this.rejected = Counter.builder("employee.downstream.concurrency.rejected")
+                    .description("Calls not sent because the concurrency limit was reached")
+                    .tag("operation", operation.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+
+        Permit acquire(long maxWaitNanos) {
+            lock.lock();
+            try {
+                if (inFlight >= (int) limit) {
+                    if (maxWaitNanos <= 0 || queued >= maxQueued) {
+                        throw reject();
+                    }
+                    queued++;
+                    try {
+                        long remaining = maxWaitNanos;
+                        while (inFlight >= (int) limit) {
+                            if (remaining <= 0) {
+                                throw reject();
+                            }
+                            remaining = released.awaitNanos(remaining);
+                        }
+                    } finally {
+                        queued--;
+                    }
+                }
+                inFlight++;
+                return new Permit(this, nanoTime.getAsLong(), inFlight);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(Permit permit, Result result) {
+            long rtt = nanoTime.getAsLong() - permit.startedAt;
+            lock.lock();
+            try {
+                inFlight--;
+                switch (result) {
+                    case ANSWERED -> sample(rtt, permit.inFlightAtStart);
+                    case DROPPED -> decrease();
+                    case IGNORED -> {
+                    }
+                }
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int limit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int inFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int queued() {
+            lock.lock();
+            try {
+                return queued;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void sample(long rtt, int inFlightAtStart) {
+            rtt = Math.max(1, rtt);
+            if (--samplesUntilProbe <= 0) {
+                // forget the old baseline: it may have been measured against a server that has since changed
+                samplesUntilProbe = nextProbe(limit);
+                noLoadRtt = rtt;
+                return;
+            }
+            if (noLoadRtt == 0 || rtt < noLoadRtt) {
+                noLoadRtt = rtt;
+                return;
+            }
+            if (inFlightAtStart * 2 < limit) {
+                // not using the limit, so the samples cannot tell whether a larger one would be safe
+                return;
+            }
+            double step = step(limit);
+            double queuedAtServer = Math.ceil(limit * (1 - (double) noLoadRtt / rtt));
+            if (queuedAtServer <= step) {
+                update(limit + 6 * step);
+            } else if (queuedAtServer < 3 * step) {
+                update(limit + step);
+            } else if (queuedAtServer > 6 * step) {
+                update(limit - step);
+            }
+        }
+
+        private void decrease() {
+            update(limit - step(limit));
+        }
+
+        private void update(double newLimit) {
+            double bounded = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            if ((int) bounded != (int) limit) {
+                log.debug("Concurrency limit for {} calls {} -> {}", operation, (int) limit, (int) bounded);
+            }
+            limit = bounded;
+        }
+
+        private DownstreamThrottledException reject() {
+            rejected.increment();
+            return new DownstreamThrottledException("Concurrency limit of " + (int) limit + " reached for "
+                    + operation.name().toLowerCase() + " calls to the mock employee server",
+                    Duration.ofNanos(Math.max(noLoadRtt, 1_000_000)));
+        }
+
+        private static double step(double limit) {
+            return Math.max(1, Math.log10(limit));
+        }
+
+        private static long nextProbe(double limit) {
+            return (long) (PROBE_MULTIPLIER * limit * ThreadLocalRandom.current().nextDouble(0.5, 1));
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side estimate of the mock server's request budget: a quota that grows until a 429 and a backoff bracketed
+ * by probes. Once the quota is used, no call is sent until the backoff has passed. User calls wait up to
+ * {@code maxUserWait} for a permit; lower priorities are shed with a {@link DownstreamThrottledException}.
+ */
+@Slf4j
+@Component
+public final class AdaptiveRateLimiter {
+
+    private final boolean enabled;
+    private final Duration probeInterval;
+    private final Duration maxUserWait;
+    private final int bulkReserve;
+    private final int backgroundReserve;
+    private final Duration reserveIdle;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+    private final Counter throttledResponses;
+
+    private double quota;
+    private Duration backoff;
+    private Duration minBackoff = Duration.ZERO;
+    private long window;
+    private int used;
+    private int accepted;
+    private boolean windowThrottled;
+    private Instant lastAccepted;
+    private Instant lastGranted;
+    private Instant retryAt;
+    private boolean probing;
+
+    @Autowired
+    public AdaptiveRateLimiter(@Value("${employeeRateLimiter.enabled:true}") boolean enabled,
+                               @Value("${employeeRateLimiter.initialQuota:5}") int initialQuota,
+                               @Value("${employeeRateLimiter.initialBackoff:30s}") Duration initialBackoff,
+                               @Value("${employeeRateLimiter.probeInterval:2s}") Duration probeInterval,
+                               @Value("${employeeRateLimiter.maxUserWait:2s}") Duration maxUserWait,
+                               @Value("${employeeRateLimiter.bulkReserve:1}") int bulkReserve,
+                               @Value("${employeeRateLimiter.backgroundReserve:2}") int backgroundReserve,
+                               @Value("${employeeRateLimiter.reserveIdle:10s}") Duration reserveIdle,
+                               MeterRegistry meterRegistry) {
+        this(enabled, initialQuota, initialBackoff, probeInterval, maxUserWait, bulkReserve, backgroundReserve,
+                reserveIdle, meterRegistry, Clock.systemUTC());
+    }
+
+    public AdaptiveRateLimiter(boolean enabled, int initialQuota, Duration initialBackoff, Duration probeInterval,
+                               Duration maxUserWait, int bulkReserve, int backgroundReserve, Duration reserveIdle,
+                               MeterRegistry meterRegistry, Clock clock) {
+        if (initialQuota < 1) {
+            throw new IllegalArgumentException("employeeRateLimiter.initialQuota must be at least 1");
+        }
+        this.enabled = enabled;
+        this.quota = initialQuota;
+        this.backoff = initialBackoff;
+        this.probeInterval = probeInterval;
+        this.maxUserWait = maxUserWait;
+        this.bulkReserve = bulkReserve;
+        this.backgroundReserve = backgroundReserve;
+        this.reserveIdle = reserveIdle;
+        this.clock = clock;
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder("employee.downstream.limiter.rejected")
+                    .description("Calls not sent because the learned request budget was exhausted")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.throttledResponses = Counter.builder("employee.downstream.limiter.throttled")
+                .description("429 responses received from the mock employee server")
+                .register(meterRegistry);
+        Gauge.builder("employee.downstream.limiter.quota", this, AdaptiveRateLimiter::quota)
+                .description("Estimated requests the server accepts per window")
+                .register(meterRegistry);
+        Gauge.builder("employee.downstream.limiter.backoff", this, limiter -> limiter.backoff().toMillis() / 1000.0)
+                .description("Estimated server backoff after the quota is used up")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("employee.downstream.limiter.available", this, AdaptiveRateLimiter::available)
+                .description("Permits left in the current window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A limiter that hands out permits without ever waiting or learning anything.
+     */
+    public static AdaptiveRateLimiter unlimited() {
+        return new AdaptiveRateLimiter(false, 1, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, 0, Duration.ZERO,
+                new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    /**
+     * Takes a permit for one downstream call. Every permit must be {@linkplain Permit#complete(boolean) completed}.
+     *
+     * @throws DownstreamThrottledException if no permit became available in time for {@code priority}
+     */
+    public Permit acquire(RequestPriority priority) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        long deadline = System.nanoTime() + (priority == RequestPriority.USER ? maxUserWait.toNanos() : 0);
+        lock.lock();
+        try {
+            while (true) {
+                Instant now = clock.instant();
+                if (retryAt == null) {
+                    int available = availablePermits();
+                    if (available > reserve(priority, now)) {
+                        used++;
+                        lastGranted = now;
+                        return new Permit(this, window, false);
+                    }
+                    if (available <= 0) {
+                        retryAt = (lastAccepted == null ? now : lastAccepted).plus(backoff);
+                        log.info("Request budget of {} used up, holding downstream calls until {}", (int) quota,
+                                retryAt);
+                    }
+                }
+                if (retryAt != null && !now.isBefore(retryAt) && !probing) {
+                    probing = true;
+                    lastGranted = now;
+                    return new Permit(this, window, true);
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    rejected.get(priority).increment();
+                    throw new DownstreamThrottledException("Mock employee server request budget exhausted",
+                            max(Duration.between(now, retryAt == null ? reserveReleasedAt() : retryAt), Duration.ZERO));
+                }
+                long untilRetry = retryAt == null || probing
+                        ? remaining
+                        : Math.max(Duration.between(now, retryAt).toNanos(), TimeUnit.MILLISECONDS.toNanos(1));
+                changed.awaitNanos(Math.min(remaining, untilRetry));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.get(priority).increment();
+            throw new DownstreamThrottledException("Interrupted while waiting for a downstream permit", backoff);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double quota() {
+        lock.lock();
+        try {
+            return quota;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration backoff() {
+        lock.lock();
+        try {
+            return backoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int available() {
+        lock.lock();
+        try {
+            return retryAt == null ? Math.max(0, availablePermits()) : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(Permit permit, boolean throttled) {
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            if (throttled) {
+                throttledResponses.increment();
+            }
+            if (permit.probe) {
+                probing = false;
+                if (throttled) {
+                    probeRejected(now);
+                } else {
+                    openWindow(now);
+                }
+            } else if (permit.window == window) {
+                if (throttled) {
+                    windowThrottled(now);
+                } else {
+                    accepted++;
+                    lastAccepted = now;
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.probe) {
+                probing = false;
+            } else if (permit.window == window && used > 0) {
+                used--;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void probeRejected(Instant now) {
+        if (lastAccepted != null) {
+            minBackoff = max(minBackoff, Duration.between(lastAccepted, now));
+            backoff = max(backoff, minBackoff);
+        }
+        retryAt = now.plus(probeInterval);
+        log.debug("Probe rejected, server backoff is longer than {}", minBackoff);
+    }
+
+    private void openWindow(Instant now) {
+        if (lastAccepted != null) {
+            // the backoff is at most the observed gap; aim a little lower so the next window can narrow it further
+            Duration observed = Duration.between(lastAccepted, now);
+            backoff = max(minBackoff, observed.minus(probeInterval));
+        }
+        if (!windowThrottled) {
+            quota += 1;
+        }
+        // the request that reopens the server's window is not counted against it
+        window++;
+        used = 0;
+        accepted = 0;
+        windowThrottled = false;
+        retryAt = null;
+        lastAccepted = now;
+        log.info("Downstream request window reopened, quota estimate {} backoff estimate {}", (int) quota, backoff);
+    }
+
+    private void windowThrottled(Instant now) {
+        if (!windowThrottled) {
+            quota = accepted > 0 ? accepted : Math.max(1, Math.floor(quota / 2));
+            windowThrottled = true;
+            log.info("Throttled by mock employee server after {} accepted calls, quota estimate now {}", accepted,
+                    (int) quota);
+        }
+        if (retryAt == null) {
+            retryAt = (lastAccepted == null ? now : lastAccepted).plus(backoff);
+        }
+    }
+
+    private int availablePermits() {
+        return (int) quota - used;
+    }
+
+    private int reserve(RequestPriority priority, Instant now) {
+        if (!now.isBefore(reserveReleasedAt())) {
+            return 0;
+        }
+        return switch (priority) {
+            case USER -> 0;
+            case BULK -> bulkReserve;
+            case BACKGROUND -> backgroundReserve;
+        };
+    }
+
+    private Instant reserveReleasedAt() {
+        return lastGranted == null ? Instant.MIN : lastGranted.plus(reserveIdle);
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    public static final class Permit {
+
+        private static final Permit NONE = new Permit(null, 0, false);
+
+        private final AdaptiveRateLimiter limiter;
+        private final long window;
+        private final boolean probe;
+
+        private Permit(AdaptiveRateLimiter limiter, long window, boolean probe) {
+            this.limiter = limiter;
+            this.window = window;
+            this.probe = probe;
+        }
+
+        /**
+         * Reports how the call went; {@code throttled} is true if the server answered 429.
+         */
+        public void complete(boolean throttled) {
+            if (limiter != null) {
+                limiter.complete(this, throttled);
+            }
+        }
+
+        /**
+         * Hands the permit back instead of completing it, when the call was not sent after all.
+         */
+        public void release() {
+            if (limiter != null) {
+                limiter.release(this);
+            }
+        }
+    }
+}
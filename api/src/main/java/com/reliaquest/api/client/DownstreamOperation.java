@@ -0,0 +1,12 @@
+package com.reliaquest.api.client;
+
+/**
+ * Kind of call to the mock employee server, each with its own {@link AdaptiveConcurrencyLimiter} limit: a slow
+ * create endpoint should not shrink the room left for reads.
+ */
+public enum DownstreamOperation {
+    /** Roster, page, change log and single-employee reads. */
+    READ,
+    CREATE,
+    DELETE
+}
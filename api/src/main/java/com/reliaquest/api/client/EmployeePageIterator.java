@@ -0,0 +1,96 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.MockEmployee;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * Walks the roster page by page through the server's keyset pagination, fetching the next page in the background
+ * while the current one is consumed. At most two pages are held at a time, whatever the roster size.
+ * <p>
+ * Not thread-safe. {@link #close()} cancels an outstanding prefetch when iteration stops early.
+ */
+public class EmployeePageIterator implements Iterator<MockEmployee>, AutoCloseable {
+
+    private final BiFunction<UUID, Integer, EmployeePage> fetchPage;
+    private final int pageSize;
+    private final Executor executor;
+
+    private Iterator<MockEmployee> current = Collections.emptyIterator();
+    private CompletableFuture<EmployeePage> next;
+    private int pages;
+
+    EmployeePageIterator(BiFunction<UUID, Integer, EmployeePage> fetchPage, int pageSize, Executor executor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.fetchPage = fetchPage;
+        this.pageSize = pageSize;
+        this.executor = executor;
+        this.next = prefetch(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            EmployeePage page = await(next);
+            pages++;
+            next = page.nextCursor() == null ? null : prefetch(page.nextCursor());
+            current = page.employees() == null ? Collections.emptyIterator() : page.employees().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public MockEmployee next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Pages received so far.
+     */
+    public int pages() {
+        return pages;
+    }
+
+    @Override
+    public void close() {
+        if (next != null) {
+            next.cancel(true);
+            next = null;
+        }
+        current = Collections.emptyIterator();
+    }
+
+    private CompletableFuture<EmployeePage> prefetch(UUID after) {
+        return CompletableFuture.supplyAsync(() -> fetchPage.apply(after, pageSize), executor);
+    }
+
+    private static EmployeePage await(CompletableFuture<EmployeePage> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Employee page iterator was closed", e);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.CustomFeignErrorDecoder;
+import com.reliaquest.api.exception.FeignExecutionException;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import feign.FeignException;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for calls to the mock employee server: concurrent reads share one in-flight request, and every
+ * call holds an {@link AdaptiveRateLimiter} permit and an {@link AdaptiveConcurrencyLimiter} slot.
+ */
+@Slf4j
+@Component
+public class MockEmployeeGateway {
+
+    private static final String RAW_ROSTER = "MockEmployeeClient#getEmployeesRaw()";
+    private static final String CONDITIONAL_ROSTER = "MockEmployeeClient#getEmployeesIfNoneMatch(String)";
+    private static final TypeReference<Response<List<MockEmployee>>> ROSTER_TYPE = new TypeReference<>() {
+    };
+
+    private final MockEmployeeClient mockEmployeeClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RequestHedger employeeHedger;
+    private final SingleFlight<RequestPriority, VersionedRoster> rosterFlights;
+    private final SingleFlight<UUID, ResponseEntity<Response<MockEmployee>>> employeeFlights;
+    private final ErrorDecoder errorDecoder;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final boolean conditionalRoster;
+    private final AtomicReference<TaggedRoster> lastRoster = new AtomicReference<>();
+    private final Counter rosterNotModified;
+    private final Counter rosterModified;
+    private final Executor pagePrefetchExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-page-prefetch-", 0).factory());
+
+    public MockEmployeeGateway(MockEmployeeClient mockEmployeeClient, MeterRegistry meterRegistry) {
+        this(mockEmployeeClient, AdaptiveRateLimiter.unlimited(), meterRegistry);
+    }
+
+    public MockEmployeeGateway(MockEmployeeClient mockEmployeeClient, AdaptiveRateLimiter rateLimiter,
+                               MeterRegistry meterRegistry) {
+        this(mockEmployeeClient, rateLimiter, false, meterRegistry);
+    }
+
+    public MockEmployeeGateway(MockEmployeeClient mockEmployeeClient, AdaptiveRateLimiter rateLimiter,
+                               boolean conditionalRoster, MeterRegistry meterRegistry) {
+        this(mockEmployeeClient, rateLimiter, AdaptiveConcurrencyLimiter.unlimited(), RequestHedger.disabled(),
+                conditionalRoster, meterRegistry);
+    }
+
+    @Autowired
+    public MockEmployeeGateway(MockEmployeeClient mockEmployeeClient, AdaptiveRateLimiter rateLimiter,
+                               AdaptiveConcurrencyLimiter concurrencyLimiter, RequestHedger employeeHedger,
+                               @Value("${employeeService.conditionalRoster:true}") boolean conditionalRoster,
+                               MeterRegistry meterRegistry) {
+        this.mockEmployeeClient = mockEmployeeClient;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.employeeHedger = employeeHedger;
+        this.conditionalRoster = conditionalRoster;
+        this.errorDecoder = new CustomFeignErrorDecoder(meterRegistry);
+        this.rosterFlights = new SingleFlight<>("getEmployees", meterRegistry);
+        this.employeeFlights = new SingleFlight<>("getEmployee", meterRegistry);
+        this.rosterNotModified = rosterFetchCounter(meterRegistry, "not_modified");
+        this.rosterModified = rosterFetchCounter(meterRegistry, "modified");
+    }
+
+    public Response<List<MockEmployee>> getEmployees() {
+        return getEmployees(RequestPriority.USER);
+    }
+
+    public Response<List<MockEmployee>> getEmployees(RequestPriority priority) {
+        return getVersionedEmployees(priority).roster();
+    }
+
+    /**
+     * The roster together with its position in the server's change log, from which
+     * {@link #getEmployeeChanges(RosterVersion, RequestPriority)} can bring it up to date. The version is only known
+     * with {@code employeeService.conditionalRoster} on. Only calls at the same priority share a fetch, so a user read
+     * never inherits a background fetch the rate limiter shed.
+     */
+    public VersionedRoster getVersionedEmployees(RequestPriority priority) {
+        return rosterFlights.execute(priority, () -> limited(DownstreamOperation.READ, priority, conditionalRoster
+                ? this::fetchRosterIfModified
+                : () -> new VersionedRoster(mockEmployeeClient.getEmployees(), null)));
+    }
+
+    /**
+     * Changes made to the roster since {@code since}; empty with {@code resyncRequired} set when the server can no
+     * longer provide them.
+     */
+    public EmployeeChanges getEmployeeChanges(RosterVersion since, RequestPriority priority) {
+        return limited(DownstreamOperation.READ, priority, () -> {
+            Response<EmployeeChanges> response = mockEmployeeClient.getEmployeeChanges(since.epoch(), since.sequence());
+            if (response == null || response.data() == null) {
+                return new EmployeeChanges(since.epoch(), since.sequence(), true, List.of());
+            }
+            return response.data();
+        });
+    }
+
+    /**
+     * Fetches the roster and hands each employee's name and salary to {@code visitor} while the body is still being
+     * read, without decoding it into {@link MockEmployee}s. Not coalesced: every caller brings its own visitor.
+     *
+     * @return {@code visitor}, after the whole roster has been visited
+     */
+    public <V extends StreamingRosterReader.Visitor> V streamEmployees(V visitor) {
+        return limited(DownstreamOperation.READ, RequestPriority.USER, () -> {
+            try (feign.Response response = mockEmployeeClient.getEmployeesRaw()) {
+                if (response.status() != HttpStatus.OK.value()) {
+                    throw decodeError(response);
+                }
+                if (response.body() == null) {
+                    return visitor;
+                }
+                try (InputStream body = response.body().asInputStream()) {
+                    int employees = StreamingRosterReader.read(body, visitor);
+                    log.debug("Streamed {} employees from roster response", employees);
+                }
+                return visitor;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read roster response", e);
+            }
+        });
+    }
+
+    /**
+     * Iterates the roster page by page, {@code pageSize} employees per request, prefetching the next page while the
+     * current one is consumed. Every page is a separate call against the rate limiter at {@code priority}.
+     */
+    public EmployeePageIterator getEmployeePages(int pageSize, RequestPriority priority) {
+        return new EmployeePageIterator((after, limit) -> limited(DownstreamOperation.READ, priority, () -> {
+            Response<EmployeePage> response = mockEmployeeClient.getEmployeePage(after, limit);
+            return response == null || response.data() == null ? new EmployeePage(List.of(), null) : response.data();
+        }), pageSize, pagePrefetchExecutor);
+    }
+
+    /**
+     * One employee. With {@code employeeHedging.enabled} a slow call is hedged with a second, background-priority
+     * call, see {@link RequestHedger}.
+     */
+    public ResponseEntity<Response<MockEmployee>> getEmployee(UUID uuid) {
+        return employeeFlights.execute(uuid, () -> employeeHedger.execute(
+                () -> limited(DownstreamOperation.READ, RequestPriority.USER,
+                        () -> mockEmployeeClient.getEmployee(uuid)),
+                () -> limited(DownstreamOperation.READ, RequestPriority.BACKGROUND,
+                        () -> mockEmployeeClient.getEmployee(uuid))));
+    }
+
+    public Response<MockEmployee> createEmployee(CreateMockEmployeeInput input) {
+        return createEmployee(input, RequestPriority.USER);
+    }
+
+    public Response<MockEmployee> createEmployee(CreateMockEmployeeInput input, RequestPriority priority) {
+        return limited(DownstreamOperation.CREATE, priority, () -> mockEmployeeClient.createEmployee(input));
+    }
+
+    public Response<Boolean> deleteEmployee(DeleteMockEmployeeInput input) {
+        return deleteEmployee(input, RequestPriority.USER);
+    }
+
+    public Response<Boolean> deleteEmployee(DeleteMockEmployeeInput input, RequestPriority priority) {
+        return limited(DownstreamOperation.DELETE, priority, () -> mockEmployeeClient.deleteEmployee(input));
+    }
+
+    /**
+     * The roster, reusing the last decoded one when the server reports it unchanged. The returned list is shared
+     * between callers and unmodifiable.
+     */
+    private VersionedRoster fetchRosterIfModified() {
+        TaggedRoster cached = lastRoster.get();
+        try (feign.Response response = mockEmployeeClient.getEmployeesIfNoneMatch(cached == null ? null : cached.etag())) {
+            if (response.status() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                rosterNotModified.increment();
+                log.debug("Roster unchanged since {}, reusing decoded copy", cached.etag());
+                return cached.roster();
+            }
+            if (response.status() != HttpStatus.OK.value()) {
+                throw decodeError(CONDITIONAL_ROSTER, response);
+            }
+            rosterModified.increment();
+            String etag = header(response, HttpHeaders.ETAG);
+            VersionedRoster roster = new VersionedRoster(decodeRoster(response), RosterVersion.fromEtag(etag));
+            lastRoster.set(etag == null ? null : new TaggedRoster(etag, roster));
+            return roster;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read roster response", e);
+        }
+    }
+
+    private Response<List<MockEmployee>> decodeRoster(feign.Response response) throws IOException {
+        if (response.body() == null) {
+            return Response.handledWith(Collections.emptyList());
+        }
+        try (InputStream body = response.body().asInputStream()) {
+            Response<List<MockEmployee>> roster = objectMapper.readValue(body, ROSTER_TYPE);
+            List<MockEmployee> employees = roster.data() == null ? null : Collections.unmodifiableList(roster.data());
+            return new Response<>(employees, roster.status(), roster.error());
+        }
+    }
+
+    private static String header(feign.Response response, String name) {
+        Collection<String> values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private static Counter rosterFetchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.roster.conditional.fetches")
+                .description("Conditional roster fetches by whether the server sent a new roster")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private RuntimeException decodeError(feign.Response response) {
+        return decodeError(RAW_ROSTER, response);
+    }
+
+    private RuntimeException decodeError(String methodKey, feign.Response response) {
+        Exception error = errorDecoder.decode(methodKey, response);
+        if (error instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new FeignExecutionException(response.status(), error.getMessage());
+    }
+
+    /**
+     * Runs {@code call} holding a rate limiter permit and a slot under {@code operation}'s concurrency limit, taken in
+     * that order so a call waiting for the server's next window does not occupy a slot.
+     */
+    private <T> T limited(DownstreamOperation operation, RequestPriority priority, Supplier<T> call) {
+        AdaptiveRateLimiter.Permit permit = rateLimiter.acquire(priority);
+        AdaptiveConcurrencyLimiter.Permit slot;
+        try {
+            slot = concurrencyLimiter.acquire(operation, priority);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        boolean throttled = false;
+        AdaptiveConcurrencyLimiter.Result result = AdaptiveConcurrencyLimiter.Result.IGNORED;
+        try {
+            T value = call.get();
+            result = AdaptiveConcurrencyLimiter.Result.ANSWERED;
+            return value;
+        } catch (RuntimeException e) {
+            throttled = e instanceof FeignException feignException
+                    && feignException.status() == HttpStatus.TOO_MANY_REQUESTS.value();
+            result = congestionResult(e);
+            throw e;
+        } finally {
+            slot.complete(result);
+            permit.complete(throttled);
+        }
+    }
+
+    /**
+     * A client error is still an answer whose round trip tells how loaded the server is; a 429 says nothing about
+     * that, and anything else that went wrong on the way is taken as overload.
+     */
+    private static AdaptiveConcurrencyLimiter.Result congestionResult(RuntimeException failure) {
+        if (failure instanceof NoDataToDisplayException) {
+            return AdaptiveConcurrencyLimiter.Result.ANSWERED;
+        }
+        if (failure instanceof FeignException feignException && feignException.status() >= 400
+                && feignException.status() < 500) {
+            return feignException.status() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    ? AdaptiveConcurrencyLimiter.Result.IGNORED
+                    : AdaptiveConcurrencyLimiter.Result.ANSWERED;
+        }
+        return AdaptiveConcurrencyLimiter.Result.DROPPED;
+    }
+
+    private record TaggedRoster(String etag, VersionedRoster roster) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.EmployeeServiceExecutionException;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Hedges single-employee lookups: a call unanswered after the {@code employeeHedging.percentile} latency of recent
+ * calls is repeated, the first answer wins and the other call is cancelled. Hedges are limited to
+ * {@code employeeHedging.budget} of calls.
+ */
+@Slf4j
+@Component
+public final class RequestHedger {
+
+    private static final int MAX_SAVED_HEDGES = 10;
+    private static final long HEDGE = 1_000_000;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long earnedPerCall;
+    private final int minSamples;
+    private final long[] latencies;
+    private final ExecutorService attempts =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-hedged-call-", 0).factory());
+    private final Counter won;
+    private final Counter lost;
+    private final Counter failed;
+    private final Counter overBudget;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long recorded;
+    private int nextLatency;
+    private long savedHedges;
+    private volatile long delayNanos = -1;
+
+    @Autowired
+    public RequestHedger(@Value("${employeeHedging.enabled:false}") boolean enabled,
+                         @Value("${employeeHedging.percentile:0.95}") double percentile,
+                         @Value("${employeeHedging.minDelay:10ms}") Duration minDelay,
+                         @Value("${employeeHedging.budget:0.05}") double budget,
+                         @Value("${employeeHedging.window:1000}") int window,
+                         @Value("${employeeHedging.minSamples:20}") int minSamples,
+                         MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("employeeHedging.percentile must be between 0 and 1");
+        }
+        if (budget < 0 || budget > 1) {
+            throw new IllegalArgumentException("employeeHedging.budget must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.earnedPerCall = Math.round(budget * HEDGE);
+        this.latencies = new long[Math.max(1, window)];
+        this.minSamples = Math.max(1, Math.min(minSamples, latencies.length));
+        this.won = hedgeCounter(meterRegistry, "won");
+        this.lost = hedgeCounter(meterRegistry, "lost");
+        this.failed = hedgeCounter(meterRegistry, "failed");
+        this.overBudget = hedgeCounter(meterRegistry, "over_budget");
+        Gauge.builder("employee.downstream.hedge.delay", this, hedger -> hedger.delayNanos < 0
+                        ? Double.NaN : hedger.delayNanos / 1e9)
+                .description("Time a getEmployee call may take before it is hedged")
+                .tag("operation", "getEmployee")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A hedger that always makes the single first call.
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0.95, Duration.ZERO, 0, 1, 1, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Runs {@code call}, and {@code hedge} too if {@code call} is slow and the budget allows.
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> hedge) {
+        if (!enabled) {
+            return call.get();
+        }
+        earn();
+        long delay = delayNanos;
+        if (delay < 0) {
+            long start = System.nanoTime();
+            T value = call.get();
+            recordLatency(System.nanoTime() - start);
+            return value;
+        }
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicReference<Boolean> answeredByHedge = new AtomicReference<>();
+        AtomicInteger running = new AtomicInteger(1);
+        AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+        Future<?> first = attempts.submit(() -> attempt(call, false, winner, answeredByHedge, running, firstFailure));
+        Future<?> second = null;
+        try {
+            try {
+                return winner.get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                running.incrementAndGet();
+                if (winner.isDone()) {
+                    running.decrementAndGet();
+                } else if (!spend()) {
+                    running.decrementAndGet();
+                    overBudget.increment();
+                } else {
+                    log.debug("No answer after {}ms, hedging", TimeUnit.NANOSECONDS.toMillis(delay));
+                    second = attempts.submit(() -> attempt(hedge, true, winner, answeredByHedge, running, firstFailure));
+                }
+            }
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeServiceExecutionException("Interrupted while waiting for the mock employee server");
+        } finally {
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+                Boolean hedgeAnswered = answeredByHedge.get();
+                (hedgeAnswered == null ? failed : hedgeAnswered ? won : lost).increment();
+            }
+        }
+    }
+
+    /**
+     * The current hedge delay, or {@code null} until enough calls have been timed.
+     */
+    public Duration delay() {
+        long delay = delayNanos;
+        return delay < 0 ? null : Duration.ofNanos(delay);
+    }
+
+    /**
+     * Runs one of the calls. The first to answer claims {@code answeredByHedge} and completes {@code winner}; when
+     * every call that was started has failed, the last one to fail completes it with the first failure.
+     */
+    private <T> void attempt(Supplier<T> call, boolean isHedge, CompletableFuture<T> winner,
+                             AtomicReference<Boolean> answeredByHedge, AtomicInteger running,
+                             AtomicReference<RuntimeException> firstFailure) {
+        long start = System.nanoTime();
+        try {
+            T value = call.get();
+            recordLatency(System.nanoTime() - start);
+            if (answeredByHedge.compareAndSet(null, isHedge)) {
+                winner.complete(value);
+            }
+        } catch (RuntimeException e) {
+            if (isAnswer(e)) {
+                recordLatency(System.nanoTime() - start);
+                if (answeredByHedge.compareAndSet(null, isHedge)) {
+                    winner.completeExceptionally(e);
+                }
+                return;
+            }
+            firstFailure.compareAndSet(null, e);
+            if (running.decrementAndGet() == 0) {
+                winner.completeExceptionally(firstFailure.get());
+            }
+        }
+    }
+
+    private static boolean isAnswer(Throwable failure) {
+        return failure instanceof NoDataToDisplayException;
+    }
+
+    private void earn() {
+        lock.lock();
+        try {
+            savedHedges = Math.min(MAX_SAVED_HEDGES * HEDGE, savedHedges + earnedPerCall);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean spend() {
+        lock.lock();
+        try {
+            if (savedHedges < HEDGE) {
+                return false;
+            }
+            savedHedges -= HEDGE;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        long[] window;
+        lock.lock();
+        try {
+            latencies[nextLatency] = nanos;
+            nextLatency = (nextLatency + 1) % latencies.length;
+            recorded++;
+            if (recorded < minSamples || (recorded != minSamples && recorded % RECOMPUTE_EVERY != 0)) {
+                return;
+            }
+            window = Arrays.copyOf(latencies, (int) Math.min(recorded, latencies.length));
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(window);
+        int index = Math.max(0, (int) Math.ceil(percentile * window.length) - 1);
+        delayNanos = Math.max(minDelayNanos, window[index]);
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new EmployeeServiceExecutionException(failure.getMessage());
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.downstream.hedges")
+                .description("Hedged getEmployee calls by which call answered first")
+                .tag("operation", "getEmployee")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
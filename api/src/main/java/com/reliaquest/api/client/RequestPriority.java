@@ -0,0 +1,14 @@
+package com.reliaquest.api.client;
+
+/**
+ * Who is waiting on a downstream call. When the learned request budget runs low, {@link AdaptiveRateLimiter} keeps
+ * the last permits for user-facing calls and sheds lower priorities first.
+ */
+public enum RequestPriority {
+    /** A request an api caller is blocked on. */
+    USER,
+    /** One item of a multi-item request. */
+    BULK,
+    /** Work nobody is waiting on, such as refreshing the roster ahead of expiry. */
+    BACKGROUND
+}
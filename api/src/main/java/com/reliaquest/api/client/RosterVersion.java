@@ -0,0 +1,55 @@
+package com.reliaquest.api.client;
+
+/**
+ * Position of a roster in the server's change log: the run of the server ({@code epoch}) and the sequence number of
+ * the last change the roster includes. The server's roster ETag is {@code "<epoch>-<sequence>"}.
+ */
+public record RosterVersion(String epoch, long sequence) {
+
+    /**
+     * Parses a roster ETag, returning null when it is not in the server's format.
+     */
+    public static RosterVersion fromEtag(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+        if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return null;
+        }
+        return parse(value.substring(1, value.length() - 1));
+    }
+
+    /**
+     * Parses {@code "<epoch>-<sequence>"} as used for server-sent event ids, returning null when it is not in that
+     * format.
+     */
+    public static RosterVersion parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.lastIndexOf('-');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new RosterVersion(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The {@code "<epoch>-<sequence>"} form, as sent in {@code Last-Event-ID}.
+     */
+    public String value() {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Whether this roster is missing changes that {@code other}, from the same run of the server, includes.
+     */
+    public boolean isOlderThan(RosterVersion other) {
+        return other != null && epoch.equals(other.epoch) && sequence < other.sequence;
+    }
+}
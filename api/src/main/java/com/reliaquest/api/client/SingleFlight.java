@@ -0,0 +1,97 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call whose result (or failure) is shared by every
+ * caller that joined while it was running. The number of callers merged into each flight is recorded in the
+ * {@code employee.downstream.coalesced.callers} distribution summary.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final DistributionSummary mergedCallers;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.mergedCallers = DistributionSummary.builder("employee.downstream.coalesced.callers")
+                .description("Callers that shared a single in-flight downstream call, leader excluded")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        while (true) {
+            Flight<V> flight = new Flight<>();
+            Flight<V> inFlight = flights.putIfAbsent(key, flight);
+            if (inFlight == null) {
+                return lead(key, flight, call);
+            }
+            if (inFlight.join()) {
+                return await(inFlight.result);
+            }
+            // the flight closed between lookup and join, start over
+        }
+    }
+
+    public int inFlight() {
+        return flights.size();
+    }
+
+    int followers(K key) {
+        Flight<V> flight = flights.get(key);
+        return flight == null ? 0 : Math.max(0, flight.followers.get());
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> call) {
+        try {
+            V value = call.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            mergedCallers.record(flight.close());
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+
+        private static final int CLOSED = -1;
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+
+        boolean join() {
+            return followers.getAndUpdate(count -> count == CLOSED ? CLOSED : count + 1) != CLOSED;
+        }
+
+        int close() {
+            return followers.getAndSet(CLOSED);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a {@code Response<List<MockEmployee>>} body token by token, handing each employee's name and salary to a
+ * {@link Visitor} as soon as its object closes. No {@code MockEmployee} is built and no other field is kept, so
+ * memory stays constant in the size of the roster.
+ */
+public final class StreamingRosterReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private StreamingRosterReader() {
+    }
+
+    /**
+     * @return the number of employees visited
+     * @throws IOException if the body cannot be read or is not a roster response
+     */
+    public static int read(InputStream body, Visitor visitor) throws IOException {
+        int employees = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT, parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readEmployee(parser, visitor);
+                        employees++;
+                    }
+                    expect(parser.currentToken(), JsonToken.END_ARRAY, parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return employees;
+    }
+
+    private static void readEmployee(JsonParser parser, Visitor visitor) throws IOException {
+        String name = null;
+        Integer salary = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "employee_name" -> name = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                case "employee_salary" -> salary = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser.currentToken(), JsonToken.END_OBJECT, parser);
+        visitor.employee(name, salary);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, JsonParser parser) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Malformed roster response, expected " + expected + " but found " + actual
+                    + " at " + parser.currentLocation());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Called once per employee in roster order; {@code salary} is null if the employee has none.
+         */
+        void employee(String name, Integer salary);
+    }
+}
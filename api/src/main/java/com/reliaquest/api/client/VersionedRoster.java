@@ -0,0 +1,13 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+
+import java.util.List;
+
+/**
+ * A roster response with its position in the server's change log; {@code version} is null when the fetch was not
+ * conditional or the server sent no usable ETag.
+ */
+public record VersionedRoster(Response<List<MockEmployee>> roster, RosterVersion version) {
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.config;
+
+import feign.Capability;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Transport for {@link MockEmployeeClient}. The client itself is picked by {@code spring.cloud.openfeign.*}:
+ * the pooled Apache HttpClient 5 transport (HTTP/1.1 keep-alive) by default, or the {@code java.net.http} client
+ * (h2c) when {@code httpclient.hc5.enabled} is false and {@code http2client.enabled} is true.
+ * This configuration exports the HttpClient 5 pool as {@code httpcomponents.httpclient.pool.*} meters and times every
+ * call through whichever transport is active, see {@link MeteredFeignCapability}.
+ */
+@Slf4j
+@Configuration
+public class FeignTransportConfig {
+
+    static final String POOL_NAME = "mock-employee-api";
+
+    @Bean
+    public Capability meteredFeignCapability(MeterRegistry meterRegistry) {
+        return new MeteredFeignCapability(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManagers) {
+        return registry -> connectionManagers.ifAvailable(connectionManager -> {
+            if (connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, POOL_NAME).bindTo(registry);
+                log.info("Exporting connection pool metrics for {}", POOL_NAME);
+            }
+        });
+    }
+}
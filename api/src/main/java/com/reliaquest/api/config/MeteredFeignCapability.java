@@ -0,0 +1,54 @@
+package com.reliaquest.api.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+
+/**
+ * Times every {@link MockEmployeeClient} call at the transport as {@code employee.downstream.requests}, tagged with
+ * the client method, the HTTP status (or {@code IO_ERROR}) and its outcome, with a percentile histogram. The time is
+ * taken until the response headers arrive, before the error decoder runs and before a streamed body is read.
+ */
+public class MeteredFeignCapability implements Capability {
+
+    static final String METRIC = "employee.downstream.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public MeteredFeignCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String status = "IO_ERROR";
+            Outcome outcome = Outcome.UNKNOWN;
+            try {
+                Response response = client.execute(request, options);
+                status = Integer.toString(response.status());
+                outcome = Outcome.forStatus(response.status());
+                return response;
+            } finally {
+                sample.stop(Timer.builder(METRIC)
+                        .description("Calls to the mock employee server by client method")
+                        .tag("method", method(request))
+                        .tag("status", status)
+                        .tag("outcome", outcome.name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        };
+    }
+
+    private static String method(Request request) {
+        MethodMetadata metadata = request.requestTemplate() == null ? null : request.requestTemplate().methodMetadata();
+        return metadata == null ? "unknown" : metadata.configKey();
+    }
+}
@@ -3,10 +3,13 @@ package com.reliaquest.api.config;
 import com.reliaquest.api.exception.FeignClientConfig;
 import com.reliaquest.api.model.CreateMockEmployeeInput;
 import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.MockEmployee;
 import com.reliaquest.api.model.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +24,35 @@ public interface MockEmployeeClient {
     @GetMapping
     Response<List<MockEmployee>> getEmployees();
 
+    /**
+     * The same roster as {@link #getEmployees()}, undecoded: the caller reads the body and must close the response.
+     * Error statuses are returned rather than passed through the error decoder.
+     */
+    @GetMapping
+    feign.Response getEmployeesRaw();
+
+    /**
+     * Undecoded roster fetch that sends {@code If-None-Match} when {@code etag} is not null, so the server answers 304
+     * with no body while the roster is unchanged. The caller must close the response.
+     */
+    @GetMapping
+    feign.Response getEmployeesIfNoneMatch(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String etag);
+
+    /**
+     * Up to {@code limit} employees ordered by id, starting after {@code after} or at the first id when it is null.
+     * The server caps {@code limit}.
+     */
+    @GetMapping("/page")
+    Response<EmployeePage> getEmployeePage(@RequestParam(value = "after", required = false) UUID after,
+                                           @RequestParam("limit") int limit);
+
+    /**
+     * Roster changes after sequence number {@code since} of the server run {@code epoch}, for a roster whose ETag was
+     * {@code "<epoch>-<since>"}.
+     */
+    @GetMapping("/changes")
+    Response<EmployeeChanges> getEmployeeChanges(@RequestParam("epoch") String epoch, @RequestParam("since") long since);
+
     @GetMapping("/{id}")
     ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid);
 
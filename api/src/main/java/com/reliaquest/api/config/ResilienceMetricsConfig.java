@@ -0,0 +1,66 @@
+package com.reliaquest.api.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Event counters for the resilience4j instances guarding downstream calls, next to the gauges and call counters the
+ * resilience4j auto-configuration already exports:
+ * {@code employee.resilience.retry.attempts} counts every retry of a failed attempt, and
+ * {@code employee.resilience.circuitbreaker.transitions} every state transition, tagged with both states.
+ */
+@Configuration
+public class ResilienceMetricsConfig {
+
+    @Bean
+    public RegistryEventConsumer<Retry> retryAttemptMetrics(MeterRegistry meterRegistry) {
+        return onEntryAdded(retry -> retry.getEventPublisher().onRetry(event -> Counter
+                .builder("employee.resilience.retry.attempts")
+                .description("Retries of failed downstream attempts")
+                .tag("name", event.getName())
+                .tag("exception", event.getLastThrowable() == null
+                        ? "none" : event.getLastThrowable().getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment()));
+    }
+
+    @Bean
+    public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionMetrics(MeterRegistry meterRegistry) {
+        return onEntryAdded(circuitBreaker -> circuitBreaker.getEventPublisher().onStateTransition(event -> Counter
+                .builder("employee.resilience.circuitbreaker.transitions")
+                .description("Circuit breaker state transitions")
+                .tag("name", event.getCircuitBreakerName())
+                .tag("from", event.getStateTransition().getFromState().name())
+                .tag("to", event.getStateTransition().getToState().name())
+                .register(meterRegistry)
+                .increment()));
+    }
+
+    private static <E> RegistryEventConsumer<E> onEntryAdded(Consumer<E> subscribe) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<E> entryAddedEvent) {
+                subscribe.accept(entryAddedEvent.getAddedEntry());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<E> entryRemoveEvent) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<E> entryReplacedEvent) {
+                subscribe.accept(entryReplacedEvent.getNewEntry());
+            }
+        };
+    }
+}
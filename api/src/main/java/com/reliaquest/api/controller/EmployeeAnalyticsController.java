@@ -0,0 +1,30 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Aggregate salary views for dashboards, kept apart from {@link IEmployeeController} so that contract stays as is.
+ */
+@Slf4j
+@RestController()
+@RequestMapping("v1/api/iemployee")
+public class EmployeeAnalyticsController {
+    @Autowired
+    EmployeeServiceImpl employeeServiceImpl;
+
+    @GetMapping("/salaryStatistics")
+    public ResponseEntity<SalaryStatistics> getSalaryStatistics() {
+        log.info("Request received to fetch salary statistics");
+        SalaryStatistics salaryStatistics = employeeServiceImpl.getSalaryStatistics();
+        log.info("Fetched salary statistics for roster version {}", salaryStatistics.rosterVersion());
+        return new ResponseEntity<>(salaryStatistics, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.service.AsyncEmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@link IEmployeeController} endpoints answered with deferred results: the servlet thread is released while
+ * downstream calls or retry backoff are pending and the response is written when the future completes.
+ */
+@Slf4j
+@RestController()
+@RequestMapping("v1/api/async/iemployee")
+public class EmployeeAsyncController {
+    @Autowired
+    AsyncEmployeeServiceImpl asyncEmployeeServiceImpl;
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<MockEmployee>>> getAllEmployees() {
+        log.info("Request received to fetch all employees asynchronously");
+        return asyncEmployeeServiceImpl.getAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<MockEmployee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        log.info("Request received to fetch all employees based on their names asynchronously");
+        return asyncEmployeeServiceImpl.getEmployeesByNameSearch(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<MockEmployee>> getEmployeeById(@PathVariable String id) {
+        log.info("Request received to find employee by ID {} asynchronously", id);
+        return asyncEmployeeServiceImpl.getEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Request received to fetch highest salary of employees asynchronously");
+        return asyncEmployeeServiceImpl.getHighestSalaryOfEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Request received to fetch top ten highest Earning  employees asynchronously");
+        return asyncEmployeeServiceImpl.getTopTenHighestEarningEmployeeNames().thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<MockEmployee>> createEmployee(@RequestBody Object employeeInput) {
+        log.info("Request received to create employee asynchronously with input {}", employeeInput);
+        return asyncEmployeeServiceImpl.createEmployee(employeeInput)
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("Request received to  delete employee by id {} asynchronously", id);
+        return asyncEmployeeServiceImpl.deleteEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+}
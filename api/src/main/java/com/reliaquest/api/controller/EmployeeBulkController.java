@@ -0,0 +1,97 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+import com.reliaquest.api.service.BulkEmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch endpoints for onboarding and offboarding, kept apart from {@link IEmployeeController} so that contract stays
+ * as is.
+ * <p>
+ * {@code POST /bulk} takes a JSON array or an {@code application/x-ndjson} stream of create inputs. The whole batch
+ * is validated before anything is sent; a batch with an invalid item is answered 400 with one result per invalid
+ * item, a batch of more than {@code employeeBulk.maxItems} with 413. Otherwise the answer is 200 with one result per
+ * item, in request order, whether or not each create succeeded.
+ * <p>
+ * {@code DELETE /bulk} takes a JSON array of ids and answers 200 with an outcome per distinct id.
+ */
+@Slf4j
+@RestController()
+@RequestMapping("v1/api/iemployee/bulk")
+public class EmployeeBulkController {
+    @Autowired
+    BulkEmployeeServiceImpl bulkEmployeeServiceImpl;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${employeeBulk.maxItems:10000}")
+    int maxItems;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkCreateResult>> createEmployees(@RequestBody List<CreateMockEmployeeInput> inputs) {
+        log.info("Request received to bulk create {} employees", inputs.size());
+        return create(inputs);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkCreateResult>> createEmployeesFromStream(InputStream body) {
+        log.info("Request received to bulk create employees from NDJSON stream");
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>();
+        try (MappingIterator<CreateMockEmployeeInput> items =
+                     objectMapper.readerFor(CreateMockEmployeeInput.class).readValues(body)) {
+            // stop reading one past the limit, an oversized stream is rejected without being buffered
+            while (inputs.size() <= maxItems && items.hasNextValue()) {
+                inputs.add(items.nextValue());
+            }
+        } catch (IOException e) {
+            log.error("Malformed NDJSON bulk create body after {} items: {}", inputs.size(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(List.of(BulkCreateResult.invalid(inputs.size(), "Malformed employee input")));
+        }
+        return create(inputs);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Map<String, BulkDeleteResult>> deleteEmployees(@RequestBody List<String> ids) {
+        log.info("Request received to bulk delete {} employees", ids.size());
+        if (ids.size() > maxItems) {
+            log.error("Bulk delete of more than {} employees rejected", maxItems);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(bulkEmployeeServiceImpl.deleteEmployees(ids));
+    }
+
+    private ResponseEntity<List<BulkCreateResult>> create(List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > maxItems) {
+            log.error("Bulk create of more than {} employees rejected", maxItems);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        List<BulkCreateResult> invalid = bulkEmployeeServiceImpl.validate(inputs);
+        if (!invalid.isEmpty()) {
+            log.error("Bulk create rejected, {} of {} items are invalid", invalid.size(), inputs.size());
+            return ResponseEntity.badRequest().body(invalid);
+        }
+        return ResponseEntity.ok(bulkEmployeeServiceImpl.createEmployees(inputs));
+    }
+}
@@ -22,7 +22,8 @@ public class EmployeeControllerImpl implements IEmployeeController{
     public ResponseEntity<List> getAllEmployees() {
         log.info("Request received to fetch all employees");
         List<MockEmployee> allEmployees = employeeServiceImpl.getAllEmployees();
-        log.info("Fetched all employees successfully {}", allEmployees);
+        log.info("Fetched {} employees successfully", allEmployees.size());
+        log.debug("Fetched all employees {}", allEmployees);
         return ResponseEntity.ok(allEmployees);
     }
 
@@ -31,7 +32,8 @@ public class EmployeeControllerImpl implements IEmployeeController{
     public ResponseEntity<List> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.info("Request received to fetch all employees based on their names");
         List<MockEmployee> employeesByNameSearch = employeeServiceImpl.getEmployeesByNameSearch(searchString);
-        log.info("Fetched all employees based on their names successfully {}", employeesByNameSearch);
+        log.info("Fetched {} employees based on their names successfully", employeesByNameSearch.size());
+        log.debug("Fetched employees based on their names {}", employeesByNameSearch);
 
         return new ResponseEntity<>(employeesByNameSearch, HttpStatus.OK);
     }
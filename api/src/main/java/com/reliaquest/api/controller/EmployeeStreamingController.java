@@ -0,0 +1,84 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Newline-delimited JSON variants of the listing endpoints in {@link IEmployeeController}, selected with
+ * {@code Accept: application/x-ndjson}; any other Accept header keeps the JSON array responses.
+ * <p>
+ * Employees are written one per line through a single {@link JsonGenerator}, whose fixed-size buffer is the only
+ * buffering between the roster and the socket. The response is flushed every {@code employeeStreaming.flushEvery}
+ * employees, so the first chunk leaves early, and writes block while the client is not reading, so a slow client
+ * holds back the writer instead of growing a buffer.
+ */
+@Slf4j
+@RestController()
+@RequestMapping("v1/api/iemployee")
+public class EmployeeStreamingController {
+    @Autowired
+    EmployeeServiceImpl employeeServiceImpl;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${employeeStreaming.flushEvery:256}")
+    int flushEvery;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllEmployees() {
+        log.info("Request received to stream all employees");
+        List<MockEmployee> allEmployees = employeeServiceImpl.getAllEmployees();
+        log.info("Streaming {} employees", allEmployees.size());
+        return ndjson(allEmployees);
+    }
+
+    @GetMapping(value = "/search/{searchString}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("Request received to stream employees based on their names");
+        List<MockEmployee> employeesByNameSearch = employeeServiceImpl.getEmployeesByNameSearch(searchString);
+        log.info("Streaming {} employees matching name search", employeesByNameSearch.size());
+        return ndjson(employeesByNameSearch);
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(List<MockEmployee> employees) {
+        ObjectWriter writer = objectMapper.writerFor(MockEmployee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int batch = Math.max(1, flushEvery);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int written = 0;
+                for (MockEmployee employee : employees) {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                    if (++written % batch == 0) {
+                        generator.flush();
+                    }
+                }
+                log.debug("Streamed {} employees", written);
+            } // closing the generator flushes the last partial batch
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.LastKnownGoodRoster;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses answered from the last known roster while the mock employee server was unreachable: {@code Age} is
+ * the snapshot's age in seconds and {@code X-Roster-Version} its version, so clients can tell a stale answer from a
+ * fresh one and need not retry it.
+ */
+@RestControllerAdvice
+public class StalenessHeaders implements ResponseBodyAdvice<Object> {
+
+    public static final String ROSTER_VERSION = "X-Roster-Version";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(LastKnownGoodRoster.STALENESS_ATTRIBUTE)
+                instanceof LastKnownGoodRoster.Staleness staleness) {
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(staleness.age().toSeconds()));
+            response.getHeaders().set(ROSTER_VERSION, Long.toString(staleness.rosterVersion()));
+        }
+        return body;
+    }
+}
@@ -3,6 +3,8 @@ package com.reliaquest.api.exception;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Response;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -13,12 +15,38 @@ public class CustomFeignErrorDecoder implements ErrorDecoder {
 
     private final ErrorDecoder defaultErrorDecoder = new ErrorDecoder.Default();
 
+    private final MeterRegistry meterRegistry;
+
+    public CustomFeignErrorDecoder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Maps the error response to an exception and counts it in {@code employee.downstream.errors} by client method,
+     * status and exception type.
+     */
     @Override
     public Exception decode(String methodKey, Response response) {
+        Exception error = decodeStatus(methodKey, response);
+        Counter.builder("employee.downstream.errors")
+                .description("Error responses from the mock employee server by decoded exception type")
+                .tag("method", methodKey)
+                .tag("status", Integer.toString(response.status()))
+                .tag("type", error.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        return error;
+    }
+
+    private Exception decodeStatus(String methodKey, Response response) {
         log.info("In decode");
 
         int status = response.status();
         log.info("In decode status {}", status);
+        if (status == 429) {
+            // the rate limiter answers without a body, so it has to be recognised before parsing one
+            return new FeignExecutionException(status, "Too Many Requests");
+        }
         Map<String, Object> errorDetails;
         try {
             String errorBody = feign.Util.toString(response.body().asReader());
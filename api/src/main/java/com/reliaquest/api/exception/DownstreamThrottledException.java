@@ -0,0 +1,15 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class DownstreamThrottledException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public DownstreamThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,6 +1,7 @@
 package com.reliaquest.api.exception;
 
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,8 +11,8 @@ import org.springframework.context.annotation.Configuration;
 public class FeignClientConfig {
 
     @Bean
-    public ErrorDecoder errorDecoder() {
-        return new CustomFeignErrorDecoder();
+    public ErrorDecoder errorDecoder(MeterRegistry meterRegistry) {
+        return new CustomFeignErrorDecoder(meterRegistry);
     }
 
 
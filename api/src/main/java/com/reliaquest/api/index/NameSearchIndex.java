@@ -0,0 +1,253 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over employee names answering substring queries without scanning the whole roster.
+ * <p>
+ * Names are folded to lower case character by character and every trigram of the folded name points at the
+ * employee's ordinal (its position in roster order). A query intersects the posting lists of its own trigrams and
+ * verifies the few surviving candidates with {@link String#contains}, so both case-sensitive and case-insensitive
+ * lookups share one index and return employees in roster order. Queries shorter than a trigram fall back to a scan.
+ * Deletes leave tombstones that are compacted once they outnumber live entries.
+ */
+@Slf4j
+@Component
+public class NameSearchIndex implements RosterListener {
+
+    private static final int GRAM = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MockEmployee[] entries = new MockEmployee[0];
+    private String[] foldedNames = new String[0];
+    private int size;
+    private int live;
+    private Map<Long, PostingList> postings = new HashMap<>();
+    private Map<UUID, Integer> ordinals = new HashMap<>();
+
+    @Override
+    public void rosterReloaded(RosterSnapshot snapshot) {
+        rebuild(snapshot.employees());
+        log.debug("Rebuilt name index for roster version {} with {} employees", snapshot.version(), live);
+    }
+
+    @Override
+    public void employeeAdded(MockEmployee employee, RosterSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            append(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(employee.getId());
+            if (ordinal == null) {
+                return;
+            }
+            entries[ordinal] = null;
+            foldedNames[ordinal] = null;
+            live--;
+            if (size - live > Math.max(live, 1024)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            entries = new MockEmployee[Math.max(employees.size(), 16)];
+            foldedNames = new String[entries.length];
+            size = 0;
+            live = 0;
+            postings = new HashMap<>();
+            ordinals = new HashMap<>(employees.size() * 2);
+            employees.forEach(this::append);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every indexed employee whose name contains {@code fragment}, in roster order.
+     */
+    public List<MockEmployee> search(String fragment, boolean ignoreCase) {
+        String folded = fold(fragment);
+        lock.readLock().lock();
+        try {
+            List<MockEmployee> matches = new ArrayList<>();
+            if (folded.length() < GRAM) {
+                for (int ordinal = 0; ordinal < size; ordinal++) {
+                    collectIfMatches(ordinal, fragment, folded, ignoreCase, matches);
+                }
+                return matches;
+            }
+            for (int ordinal : candidates(folded)) {
+                collectIfMatches(ordinal, fragment, folded, ignoreCase, matches);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectIfMatches(int ordinal, String fragment, String folded, boolean ignoreCase,
+                                  List<MockEmployee> matches) {
+        MockEmployee employee = entries[ordinal];
+        if (employee == null) {
+            return;
+        }
+        boolean matched = ignoreCase
+                ? foldedNames[ordinal].contains(folded)
+                : employee.getName().contains(fragment);
+        if (matched) {
+            matches.add(employee);
+        }
+    }
+
+    private int[] candidates(String folded) {
+        Set<Long> grams = grams(folded);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] result = Arrays.copyOf(lists.get(0).ordinals, lists.get(0).size);
+        int resultSize = result.length;
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            resultSize = intersect(result, resultSize, lists.get(i));
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Intersects the sorted prefix {@code result[0, resultSize)} with {@code other} in place.
+     */
+    private static int intersect(int[] result, int resultSize, PostingList other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < resultSize && j < other.size; i++) {
+            int ordinal = result[i];
+            while (j < other.size && other.ordinals[j] < ordinal) {
+                j++;
+            }
+            if (j < other.size && other.ordinals[j] == ordinal) {
+                result[kept++] = ordinal;
+            }
+        }
+        return kept;
+    }
+
+    private void append(MockEmployee employee) {
+        if (employee.getId() != null) {
+            Integer previous = ordinals.remove(employee.getId());
+            if (previous != null) {
+                entries[previous] = null;
+                foldedNames[previous] = null;
+                live--;
+            }
+        }
+        if (size == entries.length) {
+            int capacity = Math.max(16, entries.length + (entries.length >> 1));
+            entries = Arrays.copyOf(entries, capacity);
+            foldedNames = Arrays.copyOf(foldedNames, capacity);
+        }
+        int ordinal = size++;
+        if (employee.getName() == null) {
+            return;
+        }
+        String folded = fold(employee.getName());
+        entries[ordinal] = employee;
+        foldedNames[ordinal] = folded;
+        live++;
+        if (employee.getId() != null) {
+            ordinals.put(employee.getId(), ordinal);
+        }
+        for (Long gram : grams(folded)) {
+            postings.computeIfAbsent(gram, ignored -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void compact() {
+        List<MockEmployee> survivors = new ArrayList<>(live);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (entries[ordinal] != null) {
+                survivors.add(entries[ordinal]);
+            }
+        }
+        rebuild(survivors);
+    }
+
+    private static Set<Long> grams(String folded) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            grams.add(((long) folded.charAt(i) << 32) | ((long) folded.charAt(i + 1) << 16) | folded.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Lower-cases one char at a time, so that {@code a.contains(b)} always implies {@code fold(a).contains(fold(b))}.
+     */
+    static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static final class PostingList {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size << 1);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
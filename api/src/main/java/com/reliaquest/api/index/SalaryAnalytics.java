@@ -0,0 +1,174 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.SalaryBreakdown;
+import com.reliaquest.api.model.SalaryStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Salary histograms for the whole roster and per title and age band, updated incrementally with the roster.
+ * The {@link SalaryStatistics} summary is derived from them at most once per roster version.
+ */
+@Slf4j
+@Component
+public class SalaryAnalytics implements RosterListener {
+
+    static final String UNKNOWN = "unknown";
+
+    private final int bucketWidth;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SalaryHistogram overall;
+    private Map<String, SalaryHistogram> byTitle;
+    private Map<String, SalaryHistogram> byAgeBand;
+    private long version;
+    private volatile SalaryStatistics summary;
+
+    public SalaryAnalytics(@Value("${employeeAnalytics.bucketWidth:1000}") int bucketWidth) {
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("employeeAnalytics.bucketWidth must be positive");
+        }
+        this.bucketWidth = bucketWidth;
+        reset();
+    }
+
+    @Override
+    public void rosterReloaded(RosterSnapshot snapshot) {
+        rebuild(snapshot.version(), snapshot.employees());
+        log.debug("Rebuilt salary histograms for roster version {}", snapshot.version());
+    }
+
+    @Override
+    public void employeeAdded(MockEmployee employee, RosterSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            add(employee);
+            changed(snapshot.version());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            remove(employee);
+            changed(snapshot.version());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(long rosterVersion, Collection<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            reset();
+            employees.forEach(this::add);
+            changed(rosterVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SalaryStatistics statistics() {
+        SalaryStatistics cached = summary;
+        if (cached != null) {
+            return cached;
+        }
+        lock.readLock().lock();
+        try {
+            SalaryStatistics computed = new SalaryStatistics(
+                    version,
+                    overall.count(),
+                    overall.min(),
+                    overall.max(),
+                    overall.mean(),
+                    overall.percentile(50),
+                    overall.percentile(90),
+                    overall.percentile(99),
+                    breakdowns(byTitle),
+                    breakdowns(byAgeBand));
+            // a writer clears the summary under the write lock, so this one is still current
+            summary = computed;
+            return computed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String ageBand(Integer age) {
+        if (age == null) {
+            return UNKNOWN;
+        }
+        if (age < 25) {
+            return "16-24";
+        }
+        if (age >= 65) {
+            return "65+";
+        }
+        int lower = 25 + (age - 25) / 10 * 10;
+        return lower + "-" + (lower + 9);
+    }
+
+    private void add(MockEmployee employee) {
+        if (employee.getSalary() == null) {
+            return;
+        }
+        overall.add(employee.getSalary());
+        byTitle.computeIfAbsent(titleOf(employee), ignored -> new SalaryHistogram(bucketWidth)).add(employee.getSalary());
+        byAgeBand.computeIfAbsent(ageBand(employee.getAge()), ignored -> new SalaryHistogram(bucketWidth))
+                .add(employee.getSalary());
+    }
+
+    private void remove(MockEmployee employee) {
+        if (employee.getSalary() == null) {
+            return;
+        }
+        overall.remove(employee.getSalary());
+        removeFrom(byTitle, titleOf(employee), employee.getSalary());
+        removeFrom(byAgeBand, ageBand(employee.getAge()), employee.getSalary());
+    }
+
+    private static void removeFrom(Map<String, SalaryHistogram> groups, String key, int salary) {
+        SalaryHistogram histogram = groups.get(key);
+        if (histogram != null) {
+            histogram.remove(salary);
+            if (histogram.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+
+    private static String titleOf(MockEmployee employee) {
+        return employee.getTitle() == null || employee.getTitle().isBlank() ? UNKNOWN : employee.getTitle();
+    }
+
+    private static Map<String, SalaryBreakdown> breakdowns(Map<String, SalaryHistogram> groups) {
+        Map<String, SalaryBreakdown> breakdowns = new LinkedHashMap<>();
+        new TreeMap<>(groups).forEach((key, histogram) -> breakdowns.put(key, histogram.breakdown()));
+        return breakdowns;
+    }
+
+    private void changed(long rosterVersion) {
+        version = rosterVersion;
+        summary = null;
+    }
+
+    private void reset() {
+        overall = new SalaryHistogram(bucketWidth);
+        byTitle = new HashMap<>();
+        byAgeBand = new HashMap<>();
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.SalaryBreakdown;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mutable salary histogram with fixed-width buckets. Count, sum, min and max are exact; percentiles are interpolated
+ * within a bucket, so they are accurate to one bucket width. Not thread safe, callers synchronize.
+ */
+class SalaryHistogram {
+
+    private final int bucketWidth;
+    private final TreeMap<Integer, Integer> salaries = new TreeMap<>();
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+    private long sum;
+
+    SalaryHistogram(int bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    void add(int salary) {
+        salaries.merge(salary, 1, Integer::sum);
+        buckets.merge(Math.floorDiv(salary, bucketWidth), 1L, Long::sum);
+        count++;
+        sum += salary;
+    }
+
+    void remove(int salary) {
+        if (!salaries.containsKey(salary)) {
+            return;
+        }
+        salaries.computeIfPresent(salary, (ignored, n) -> n == 1 ? null : n - 1);
+        buckets.computeIfPresent(Math.floorDiv(salary, bucketWidth), (ignored, n) -> n == 1 ? null : n - 1);
+        count--;
+        sum -= salary;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    long count() {
+        return count;
+    }
+
+    Integer min() {
+        return salaries.isEmpty() ? null : salaries.firstKey();
+    }
+
+    Integer max() {
+        return salaries.isEmpty() ? null : salaries.lastKey();
+    }
+
+    Double mean() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    /**
+     * Value below which {@code percentile} percent of salaries fall, nearest-rank within the bucketed distribution.
+     */
+    Integer percentile(double percentile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            if (seen + bucket.getValue() >= rank) {
+                double fraction = (double) (rank - seen) / bucket.getValue();
+                long lower = (long) bucket.getKey() * bucketWidth;
+                long estimate = lower + Math.round(fraction * (bucketWidth - 1));
+                return (int) Math.max(min(), Math.min(max(), estimate));
+            }
+            seen += bucket.getValue();
+        }
+        return max();
+    }
+
+    SalaryBreakdown breakdown() {
+        return new SalaryBreakdown(count, min(), max(), mean(), percentile(50));
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employees ordered by salary, highest first, kept up to date as the roster changes.
+ * <p>
+ * Ties keep roster order, matching a stable sort of the roster by descending salary. Inserts and removals cost
+ * O(log n); the highest salary is O(log n) and the top N names O(log n + N).
+ * Employees without a salary are not ranked but counted, see {@link #unsalaried()}.
+ */
+@Slf4j
+@Component
+public class SalaryRanking implements RosterListener {
+
+    private static final Comparator<Ranked> BY_SALARY_DESCENDING = Comparator
+            .comparingInt((Ranked ranked) -> ranked.salary).reversed()
+            .thenComparingLong(ranked -> ranked.ordinal);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TreeSet<Ranked> ranking = new TreeSet<>(BY_SALARY_DESCENDING);
+    private Map<UUID, Ranked> byId = new HashMap<>();
+    private int unsalaried;
+    private long nextOrdinal;
+
+    @Override
+    public void rosterReloaded(RosterSnapshot snapshot) {
+        rebuild(snapshot.employees());
+        log.debug("Rebuilt salary ranking for roster version {}", snapshot.version());
+    }
+
+    @Override
+    public void employeeAdded(MockEmployee employee, RosterSnapshot snapshot) {
+        if (employee.getId() == null) {
+            // could never be removed again; the next reload ranks it
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            ranking = new TreeSet<>(BY_SALARY_DESCENDING);
+            byId = new HashMap<>(employees.size() * 2);
+            unsalaried = 0;
+            nextOrdinal = 0;
+            employees.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Integer> highestSalary() {
+        lock.readLock().lock();
+        try {
+            return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.first().salary);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> names = new ArrayList<>(Math.min(limit, ranking.size()));
+            Iterator<Ranked> iterator = ranking.iterator();
+            while (names.size() < limit && iterator.hasNext()) {
+                names.add(iterator.next().employee.getName());
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int unsalaried() {
+        lock.readLock().lock();
+        try {
+            return unsalaried;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(MockEmployee employee) {
+        if (employee.getId() != null) {
+            remove(employee.getId());
+        }
+        if (employee.getSalary() == null) {
+            unsalaried++;
+            if (employee.getId() != null) {
+                byId.put(employee.getId(), new Ranked(employee, 0, nextOrdinal++));
+            }
+            return;
+        }
+        Ranked ranked = new Ranked(employee, employee.getSalary(), nextOrdinal++);
+        ranking.add(ranked);
+        if (employee.getId() != null) {
+            byId.put(employee.getId(), ranked);
+        }
+    }
+
+    private void remove(UUID id) {
+        Ranked ranked = byId.remove(id);
+        if (ranked == null) {
+            return;
+        }
+        if (ranked.employee.getSalary() == null) {
+            unsalaried--;
+        } else {
+            ranking.remove(ranked);
+        }
+    }
+
+    private record Ranked(MockEmployee employee, int salary, long ordinal) {
+    }
+}
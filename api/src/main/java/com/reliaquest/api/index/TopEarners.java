@@ -0,0 +1,79 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.client.StreamingRosterReader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Highest salary and top earners of a roster that is visited once and never held, see
+ * {@link StreamingRosterReader}.
+ * <p>
+ * Keeps the best {@code limit} employees in a min-heap, so memory is O(limit) whatever the roster size. Ordering
+ * matches {@link SalaryRanking}: salary descending, ties in roster order. Employees without a salary are counted,
+ * not ranked.
+ */
+public class TopEarners implements StreamingRosterReader.Visitor {
+
+    private static final Comparator<Entry> WORST_FIRST = Comparator
+            .comparingInt((Entry entry) -> entry.salary)
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.ordinal).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Entry> best;
+    private Integer highestSalary;
+    private int unsalaried;
+    private long ordinal;
+
+    public TopEarners(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Number of top earners must not be negative");
+        }
+        this.limit = limit;
+        this.best = new PriorityQueue<>(Math.max(1, limit + 1), WORST_FIRST);
+    }
+
+    @Override
+    public void employee(String name, Integer salary) {
+        long position = ordinal++;
+        if (salary == null) {
+            unsalaried++;
+            return;
+        }
+        if (highestSalary == null || salary > highestSalary) {
+            highestSalary = salary;
+        }
+        if (limit == 0) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(new Entry(name, salary, position));
+        } else if (salary > best.peek().salary) {
+            // an equal salary later in the roster never displaces an earlier one
+            best.poll();
+            best.add(new Entry(name, salary, position));
+        }
+    }
+
+    public Optional<Integer> highestSalary() {
+        return Optional.ofNullable(highestSalary);
+    }
+
+    public List<String> names() {
+        List<Entry> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        List<String> names = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> names.add(entry.name));
+        return names;
+    }
+
+    public int unsalaried() {
+        return unsalaried;
+    }
+
+    private record Entry(String name, int salary, long ordinal) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk create, {@code index} being its position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkCreateResult(int index, Status status, MockEmployee employee, String error) {
+
+    public static BulkCreateResult created(int index, MockEmployee employee) {
+        return new BulkCreateResult(index, Status.CREATED, employee, null);
+    }
+
+    public static BulkCreateResult invalid(int index, String error) {
+        return new BulkCreateResult(index, Status.INVALID, null, error);
+    }
+
+    public static BulkCreateResult failed(int index, String error) {
+        return new BulkCreateResult(index, Status.FAILED, null, error);
+    }
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+}
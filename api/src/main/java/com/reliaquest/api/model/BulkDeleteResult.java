@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of deleting one id of a bulk delete.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkDeleteResult(Status status, String error) {
+
+    public static final BulkDeleteResult DELETED = new BulkDeleteResult(Status.DELETED, null);
+    public static final BulkDeleteResult NOT_FOUND = new BulkDeleteResult(Status.NOT_FOUND, null);
+    public static final BulkDeleteResult INVALID_ID = new BulkDeleteResult(Status.INVALID_ID, null);
+
+    public static BulkDeleteResult failed(String error) {
+        return new BulkDeleteResult(Status.FAILED, error);
+    }
+
+    public enum Status {
+        DELETED,
+        NOT_FOUND,
+        INVALID_ID,
+        FAILED
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.model;
+
+import java.util.UUID;
+
+/**
+ * One entry of the server's roster change log; {@code employee} is the created or the removed employee.
+ */
+public record EmployeeChange(long sequence, Type type, UUID id, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Roster changes after a requested sequence number, oldest first. {@code resyncRequired} means the server can no longer
+ * bring that roster up to date and the full roster has to be fetched again.
+ */
+public record EmployeeChanges(String epoch, long sequence, boolean resyncRequired, List<EmployeeChange> changes) {
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of the roster in id order; {@code nextCursor} is null on the last page.
+ */
+public record EmployeePage(List<MockEmployee> employees, UUID nextCursor) {
+}
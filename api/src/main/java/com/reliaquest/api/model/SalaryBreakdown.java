@@ -0,0 +1,4 @@
+package com.reliaquest.api.model;
+
+public record SalaryBreakdown(long count, Integer min, Integer max, Double mean, Integer p50) {
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import java.util.Map;
+
+public record SalaryStatistics(
+        long rosterVersion,
+        long count,
+        Integer min,
+        Integer max,
+        Double mean,
+        Integer p50,
+        Integer p90,
+        Integer p99,
+        Map<String, SalaryBreakdown> byTitle,
+        Map<String, SalaryBreakdown> byAgeBand) {
+}
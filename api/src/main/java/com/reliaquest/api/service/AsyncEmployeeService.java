@@ -0,0 +1,21 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.MockEmployee;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}: results complete once downstream I/O, including retry
+ * backoff, is done, without a caller thread waiting on it.
+ */
+public interface AsyncEmployeeService {
+    CompletableFuture<List<MockEmployee>> getAllEmployees();
+    CompletableFuture<List<MockEmployee>> getEmployeesByNameSearch(String searchString);
+    CompletableFuture<MockEmployee> getEmployeeById(String id);
+    CompletableFuture<Integer> getHighestSalaryOfEmployees();
+    CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames();
+    CompletableFuture<MockEmployee> createEmployee(Object employeeInput);
+    CompletableFuture<String> deleteEmployeeById(String id);
+
+}
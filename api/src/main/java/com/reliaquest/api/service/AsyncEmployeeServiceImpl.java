@@ -0,0 +1,301 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.exception.EmployeeServiceExecutionException;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncEmployeeService} on the same roster cache, indexes and gateway as {@link EmployeeServiceImpl}.
+ * <p>
+ * Downstream work runs on a dedicated executor (virtual threads when {@code spring.threads.virtual.enabled} is set)
+ * and is wrapped with the same {@code mockEmployeeApiRetry} and {@code mockEmployeeApiCircuitBreaker} instances as
+ * the annotated service, using their completion-stage decorators: retry backoff is a scheduled task rather than a
+ * sleeping thread. Failures fall back to the same values as the synchronous service, answering reads from the
+ * {@link LastKnownGoodRoster} first.
+ */
+@Slf4j
+@Service
+public class AsyncEmployeeServiceImpl implements AsyncEmployeeService {
+    private static final String RETRY = "mockEmployeeApiRetry";
+    private static final String CIRCUIT_BREAKER = "mockEmployeeApiCircuitBreaker";
+    private static final int TOP_EARNERS_DEFAULT_LIMIT = 10;
+
+    @Autowired
+    MockEmployeeGateway mockEmployeeGateway;
+
+    @Autowired
+    EmployeeRosterCache employeeRosterCache;
+
+    @Autowired
+    EmployeeIdIndex employeeIdIndex;
+
+    @Autowired
+    NameSearchIndex nameSearchIndex;
+
+    @Autowired
+    SalaryRanking salaryRanking;
+
+    @Autowired
+    RetryRegistry retryRegistry;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    LastKnownGoodRoster lastKnownGoodRoster;
+
+    @Value("${employeeSearch.ignoreCase:false}")
+    boolean ignoreCaseSearch;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService downstreamExecutor;
+    private final ScheduledExecutorService retryScheduler;
+
+    public AsyncEmployeeServiceImpl(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                    @Value("${employeeAsync.downstreamThreads:64}") int downstreamThreads) {
+        this.downstreamExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-downstream-", 0).factory())
+                : Executors.newFixedThreadPool(downstreamThreads,
+                        Thread.ofPlatform().name("employee-downstream-", 0).daemon().factory());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("employee-retry-backoff").daemon().factory());
+    }
+
+    public CompletableFuture<List<MockEmployee>> getAllEmployees() {
+        log.info("Fetching all employees from roster cache asynchronously");
+        return withFallback(roster().thenApply(snapshot -> {
+            if (snapshot.employees().isEmpty()) {
+                throw new NoDataToDisplayException("No Employee to display");
+            }
+            return snapshot.employees();
+        }), "getAllEmployees", RosterSnapshot::employees, Collections::emptyList);
+    }
+
+    public CompletableFuture<List<MockEmployee>> getEmployeesByNameSearch(String searchString) {
+        log.info("Searching employees by name asynchronously, ignoreCase {}", ignoreCaseSearch);
+        return withFallback(roster().thenApply(snapshot -> {
+            List<MockEmployee> matches = nameSearchIndex.search(searchString, ignoreCaseSearch);
+            if (matches.isEmpty()) {
+                throw new NoDataToDisplayException("No Employee found whose name contains  '" + searchString + "'");
+            }
+            return matches;
+        }), "getEmployeesByNameSearch", snapshot -> nameSearchIndex.search(searchString, ignoreCaseSearch),
+                Collections::emptyList);
+    }
+
+    public CompletableFuture<MockEmployee> getEmployeeById(String id) {
+        return withFallback(findEmployee(id), "getEmployeeById", snapshot -> findInRoster(snapshot, id),
+                MockEmployee::new);
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        log.info("Fetching highest salary of employees asynchronously");
+        return withFallback(roster().thenApply(snapshot -> {
+            requireRankedSalaries();
+            return salaryRanking.highestSalary()
+                    .orElseThrow(() -> new NoDataToDisplayException("No employee exists "));
+        }), "getHighestSalaryOfEmployees",
+                snapshot -> salaryRanking.unsalaried() > 0 ? null : salaryRanking.highestSalary().orElse(null),
+                () -> 0);
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Fetching top ten highest earning employees asynchronously");
+        return withFallback(roster().thenApply(snapshot -> {
+            requireRankedSalaries();
+            List<String> names = salaryRanking.topEarnerNames(TOP_EARNERS_DEFAULT_LIMIT);
+            if (names.isEmpty()) {
+                throw new NoDataToDisplayException("No employee exists ");
+            }
+            return names;
+        }), "getTopTenHighestEarningEmployeeNames",
+                snapshot -> rankedTopEarnerNames(TOP_EARNERS_DEFAULT_LIMIT),
+                Collections::emptyList);
+    }
+
+    public CompletableFuture<MockEmployee> createEmployee(Object employeeInput) {
+        log.info("Creating employee asynchronously");
+        CompletableFuture<MockEmployee> created;
+        try {
+            if (employeeInput == null) {
+                throw new IllegalArgumentException("Invalid input type. Expected CreateMockEmployeeInput.");
+            }
+            CreateMockEmployeeInput input = objectMapper.convertValue(employeeInput, CreateMockEmployeeInput.class);
+            created = downstream(() -> mockEmployeeGateway.createEmployee(input)).thenApply(response -> {
+                employeeIdIndex.put(response.data());
+                employeeRosterCache.employeeCreated(response.data());
+                return response.data();
+            });
+        } catch (IllegalArgumentException e) {
+            created = CompletableFuture.failedFuture(e);
+        }
+        return withFallback(created, "createEmployee", MockEmployee::new);
+    }
+
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        log.info("Deleting employee with id {} asynchronously", id);
+        CompletableFuture<String> deleted = parse(id).thenCompose(uuid -> employeeIdIndex.findName(uuid)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> findEmployee(id).thenApply(MockEmployee::getName))
+                .thenCompose(name -> downstream(() -> mockEmployeeGateway.deleteEmployee(new DeleteMockEmployeeInput(name))))
+                .thenApply(response -> {
+                    if (response.data() == null || !response.data()) {
+                        throw new NoDataToDisplayException("No employee with given id Exists");
+                    }
+                    employeeIdIndex.putMissing(uuid);
+                    employeeRosterCache.employeeDeleted(uuid);
+                    return "Employee deleted successfully.";
+                }));
+        return withFallback(deleted, "deleteEmployeeById", () -> "Employee deletion failed. Please try again later.");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        downstreamExecutor.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    private CompletableFuture<MockEmployee> findEmployee(String id) {
+        return parse(id).thenCompose(uuid -> {
+            EmployeeIdIndex.Lookup cached = employeeIdIndex.lookup(uuid);
+            if (cached.result() == EmployeeIdIndex.Result.HIT) {
+                return CompletableFuture.completedFuture(cached.employee());
+            }
+            if (cached.result() == EmployeeIdIndex.Result.NEGATIVE_HIT) {
+                return CompletableFuture.failedFuture(new NoDataToDisplayException("No employee with given id Exists"));
+            }
+            return downstream(() -> mockEmployeeGateway.getEmployee(uuid)).handle((response, failure) -> {
+                Throwable cause = unwrap(failure);
+                if (cause instanceof NoDataToDisplayException || (cause == null && isMissing(response))) {
+                    employeeIdIndex.putMissing(uuid);
+                    throw new NoDataToDisplayException("No employee with given id Exists");
+                }
+                if (cause != null) {
+                    throw new CompletionException(cause);
+                }
+                employeeIdIndex.put(response.getBody().data());
+                return response.getBody().data();
+            });
+        });
+    }
+
+    private CompletableFuture<RosterSnapshot> roster() {
+        return downstream(employeeRosterCache::get);
+    }
+
+    /**
+     * Runs {@code call} on the downstream executor, guarded by the shared circuit breaker and retried with
+     * non-blocking backoff.
+     */
+    private <T> CompletableFuture<T> downstream(Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+        Retry retry = retryRegistry.retry(RETRY);
+        Supplier<CompletionStage<T>> attempt = () -> CompletableFuture.supplyAsync(call, downstreamExecutor);
+        return Retry.decorateCompletionStage(retry, retryScheduler,
+                        CircuitBreaker.decorateCompletionStage(circuitBreaker, attempt))
+                .get()
+                .toCompletableFuture();
+    }
+
+    private void requireRankedSalaries() {
+        if (salaryRanking.unsalaried() > 0) {
+            throw new EmployeeServiceExecutionException("Roster contains employees without a salary");
+        }
+    }
+
+    private static CompletableFuture<UUID> parse(String id) {
+        try {
+            return CompletableFuture.completedFuture(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isMissing(ResponseEntity<Response<MockEmployee>> response) {
+        return response.getStatusCode() == HttpStatus.NOT_FOUND || response.getBody() == null
+                || response.getBody().data() == null;
+    }
+
+    /**
+     * Top earners as ranked from the last loaded roster, for degraded answers; null when they cannot be ranked.
+     */
+    private List<String> rankedTopEarnerNames(int limit) {
+        return salaryRanking.unsalaried() > 0 ? null : salaryRanking.topEarnerNames(limit);
+    }
+
+    private static MockEmployee findInRoster(RosterSnapshot snapshot, String id) {
+        return snapshot.employees().stream()
+                .filter(employee -> employee.getId() != null && employee.getId().toString().equalsIgnoreCase(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private <T> CompletableFuture<T> withFallback(CompletableFuture<T> result, String operation,
+                                                  Supplier<T> fallback) {
+        return withFallback(result, operation, snapshot -> null, fallback);
+    }
+
+    /**
+     * Falls back to {@code degraded}, answered from the last known roster, and to {@code fallback} when that has no
+     * answer. The request is captured here, on the handler thread, since the fallback runs on whichever thread
+     * completed {@code result}.
+     */
+    private <T> CompletableFuture<T> withFallback(CompletableFuture<T> result, String operation,
+                                                  Function<RosterSnapshot, T> degraded, Supplier<T> fallback) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return result.exceptionally(failure -> {
+            Throwable cause = unwrap(failure);
+            log.error("Fallback method triggered for async {} due to: {}", operation, cause.getMessage());
+            FallbackMetrics.record(meterRegistry, operation, cause);
+            return lastKnownGoodRoster.answer(operation, cause, request, degraded).orElseGet(fallback);
+        });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch operations that fan out to the mock employee server at the pace its request budget allows.
+ */
+public interface BulkEmployeeService {
+    List<BulkCreateResult> validate(List<CreateMockEmployeeInput> inputs);
+    List<BulkCreateResult> createEmployees(List<CreateMockEmployeeInput> inputs);
+    Map<String, BulkDeleteResult> deleteEmployees(List<String> ids);
+
+}
@@ -0,0 +1,291 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk creates and deletes sent as {@link RequestPriority#BULK} calls, at most {@code employeeBulk.concurrency} at a
+ * time. Throttled items are resent after the limiter's retry-after until {@code employeeBulk.maxWait} has passed.
+ */
+@Slf4j
+@Service
+public class BulkEmployeeServiceImpl implements BulkEmployeeService {
+
+    @Autowired
+    MockEmployeeGateway mockEmployeeGateway;
+
+    @Autowired
+    EmployeeRosterCache employeeRosterCache;
+
+    @Autowired
+    EmployeeIdIndex employeeIdIndex;
+
+    @Autowired
+    Validator validator;
+
+    private final Duration maxWait;
+    private final Duration minPause;
+    private final Semaphore inFlight;
+    private final ExecutorService bulkExecutor;
+
+    public BulkEmployeeServiceImpl(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                   @Value("${employeeBulk.concurrency:8}") int concurrency,
+                                   @Value("${employeeBulk.maxWait:5m}") Duration maxWait,
+                                   @Value("${employeeBulk.minPause:200ms}") Duration minPause) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("employeeBulk.concurrency must be at least 1");
+        }
+        this.maxWait = maxWait;
+        this.minPause = minPause;
+        this.inFlight = new Semaphore(concurrency);
+        this.bulkExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-bulk-", 0).factory())
+                : Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("employee-bulk-", 0).daemon().factory());
+    }
+
+    /**
+     * @return one {@link BulkCreateResult.Status#INVALID} result per input that fails bean validation, empty if the
+     * whole batch can be sent
+     */
+    public List<BulkCreateResult> validate(List<CreateMockEmployeeInput> inputs) {
+        List<BulkCreateResult> invalid = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            CreateMockEmployeeInput input = inputs.get(i);
+            if (input == null) {
+                invalid.add(BulkCreateResult.invalid(i, "Employee input is required"));
+                continue;
+            }
+            String violations = validator.validate(input).stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            if (!violations.isEmpty()) {
+                invalid.add(BulkCreateResult.invalid(i, violations));
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Creates every input, which must already have passed {@link #validate(List)}.
+     *
+     * @return one result per input, in input order
+     */
+    public List<BulkCreateResult> createEmployees(List<CreateMockEmployeeInput> inputs) {
+        log.info("Bulk creating {} employees", inputs.size());
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<CompletableFuture<BulkCreateResult>> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            int index = i;
+            CreateMockEmployeeInput input = inputs.get(i);
+            results.add(CompletableFuture.supplyAsync(() -> create(index, input, deadline), bulkExecutor));
+        }
+        List<BulkCreateResult> created = results.stream().map(CompletableFuture::join).toList();
+        log.info("Bulk create finished, {} of {} employees created", created.stream()
+                .filter(result -> result.status() == BulkCreateResult.Status.CREATED).count(), inputs.size());
+        return created;
+    }
+
+    /**
+     * Deletes every id, resolving names without a per-id lookup: N ids cost N deletes plus at most one roster fetch.
+     *
+     * @return one outcome per distinct id, in request order
+     */
+    public Map<String, BulkDeleteResult> deleteEmployees(List<String> ids) {
+        log.info("Bulk deleting {} employees", ids.size());
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        Map<String, BulkDeleteResult> outcomes = new LinkedHashMap<>();
+        Map<String, UUID> toDelete = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (id == null || outcomes.containsKey(id)) {
+                continue;
+            }
+            // reserve the id's place so outcomes come back in request order
+            outcomes.put(id, null);
+            try {
+                toDelete.put(id, UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                outcomes.put(id, BulkDeleteResult.INVALID_ID);
+            }
+        }
+        Map<UUID, String> names;
+        try {
+            names = resolveNames(toDelete.values(), deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            toDelete.keySet().forEach(id -> outcomes.put(id, BulkDeleteResult.failed("Interrupted while resolving names")));
+            return outcomes;
+        } catch (Exception e) {
+            log.error("Could not resolve employee names for bulk delete: {}", e.getMessage());
+            toDelete.keySet().forEach(id -> outcomes.put(id, BulkDeleteResult.failed(e.getMessage())));
+            return outcomes;
+        }
+
+        Map<String, CompletableFuture<BulkDeleteResult>> deletes = new LinkedHashMap<>();
+        toDelete.forEach((id, uuid) -> {
+            String name = names.get(uuid);
+            deletes.put(id, name == null
+                    ? CompletableFuture.completedFuture(BulkDeleteResult.NOT_FOUND)
+                    : CompletableFuture.supplyAsync(() -> delete(uuid, name, deadline), bulkExecutor));
+        });
+        deletes.forEach((id, outcome) -> outcomes.put(id, outcome.join()));
+        log.info("Bulk delete finished, {} of {} employees deleted", outcomes.values().stream()
+                .filter(outcome -> outcome.status() == BulkDeleteResult.Status.DELETED).count(), ids.size());
+        return outcomes;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkExecutor.shutdownNow();
+    }
+
+    /**
+     * Names from the roster snapshot, plus one fresh roster fetch for whatever is left unless the snapshot itself was
+     * fetched for this call. Ids in neither are not resolved, so a stale name is never sent to the server.
+     */
+    private Map<UUID, String> resolveNames(Collection<UUID> ids, long deadline) throws InterruptedException {
+        Instant started = Instant.now();
+        Map<UUID, String> names = new HashMap<>();
+        List<UUID> unresolved = new ArrayList<>(ids);
+        if (unresolved.isEmpty()) {
+            return names;
+        }
+        RosterSnapshot snapshot = employeeRosterCache.get();
+        if (!addNames(snapshot, unresolved, names) && snapshot.fetchedAt().isBefore(started)) {
+            log.info("{} ids not in roster snapshot, refreshing roster once", unresolved.size());
+            addNames(paced(() -> employeeRosterCache.refresh(RequestPriority.BULK), deadline), unresolved, names);
+        }
+        return names;
+    }
+
+    private static boolean addNames(RosterSnapshot snapshot, List<UUID> unresolved, Map<UUID, String> names) {
+        Set<UUID> wanted = new HashSet<>(unresolved);
+        for (MockEmployee employee : snapshot.employees()) {
+            if (employee.getId() != null && wanted.remove(employee.getId())) {
+                names.put(employee.getId(), employee.getName());
+            }
+        }
+        unresolved.retainAll(wanted);
+        return unresolved.isEmpty();
+    }
+
+    private BulkCreateResult create(int index, CreateMockEmployeeInput input, long deadline) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkCreateResult.failed(index, "Interrupted before the employee was sent");
+        }
+        try {
+            MockEmployee employee = paced(() -> mockEmployeeGateway.createEmployee(input, RequestPriority.BULK), deadline)
+                    .data();
+            employeeIdIndex.put(employee);
+            employeeRosterCache.employeeCreated(employee);
+            return BulkCreateResult.created(index, employee);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkCreateResult.failed(index, "Interrupted while waiting for the downstream request budget");
+        } catch (Exception e) {
+            log.warn("Bulk create of item {} failed: {}", index, e.getMessage());
+            return BulkCreateResult.failed(index, e.getMessage());
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private BulkDeleteResult delete(UUID id, String name, long deadline) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkDeleteResult.failed("Interrupted before the employee was deleted");
+        }
+        try {
+            Response<Boolean> response = paced(
+                    () -> mockEmployeeGateway.deleteEmployee(new DeleteMockEmployeeInput(name), RequestPriority.BULK),
+                    deadline);
+            if (response.data() == null || !response.data()) {
+                return BulkDeleteResult.NOT_FOUND;
+            }
+            employeeIdIndex.putMissing(id);
+            employeeRosterCache.employeeDeleted(id);
+            return BulkDeleteResult.DELETED;
+        } catch (NoDataToDisplayException e) {
+            return BulkDeleteResult.NOT_FOUND;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkDeleteResult.failed("Interrupted while waiting for the downstream request budget");
+        } catch (Exception e) {
+            log.warn("Bulk delete of employee {} failed: {}", id, e.getMessage());
+            return BulkDeleteResult.failed(e.getMessage());
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Runs {@code call}, waiting out the request budget and resending while it is shed or throttled.
+     *
+     * @throws DownstreamThrottledException if the budget does not allow the call before {@code deadline}
+     */
+    private <T> T paced(Supplier<T> call, long deadline) throws InterruptedException {
+        while (true) {
+            Duration pause;
+            try {
+                return call.get();
+            } catch (DownstreamThrottledException e) {
+                pause = max(e.getRetryAfter(), minPause);
+            } catch (FeignException e) {
+                if (e.status() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    throw e;
+                }
+                pause = minPause;
+            }
+            if (System.nanoTime() + pause.toNanos() - deadline > 0) {
+                throw new DownstreamThrottledException("Downstream request budget exhausted, request not sent", pause);
+            }
+            Thread.sleep(pause);
+        }
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -1,15 +1,19 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.SalaryStatistics;
 
 import java.util.List;
 
 public interface EmployeeService {
     List<MockEmployee> getAllEmployees();
     List<MockEmployee> getEmployeesByNameSearch(String searchString);
+    List<MockEmployee> getEmployeesByNameSearch(String searchString, boolean ignoreCase);
     MockEmployee getEmployeeById(String id);
     Integer getHighestSalaryOfEmployees();
     List<String> getTopTenHighestEarningEmployeeNames();
+    List<String> getTopHighestEarningEmployeeNames(int limit);
+    SalaryStatistics getSalaryStatistics();
     MockEmployee createEmployee(Object employeeInput);
     String deleteEmployeeById(String id);
 
@@ -1,30 +1,67 @@
 package com.reliaquest.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.MockEmployeeGateway;
 import com.reliaquest.api.exception.EmployeeServiceExecutionException;
 import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryAnalytics;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.index.TopEarners;
 import com.reliaquest.api.model.CreateMockEmployeeInput;
 import com.reliaquest.api.model.DeleteMockEmployeeInput;
 import com.reliaquest.api.model.MockEmployee;
 import com.reliaquest.api.model.Response;
+import com.reliaquest.api.model.SalaryStatistics;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
+    private static final int TOP_EARNERS_DEFAULT_LIMIT = 10;
+
     @Autowired
-    MockEmployeeClient mockEmployeeClient;
+    MockEmployeeGateway mockEmployeeGateway;
 
+    @Autowired
+    EmployeeRosterCache employeeRosterCache;
+
+    @Autowired
+    EmployeeIdIndex employeeIdIndex;
+
+    @Autowired
+    NameSearchIndex nameSearchIndex;
+
+    @Autowired
+    SalaryRanking salaryRanking;
+
+    @Autowired
+    SalaryAnalytics salaryAnalytics;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    LastKnownGoodRoster lastKnownGoodRoster;
+
+    @Value("${employeeSearch.ignoreCase:false}")
+    boolean ignoreCaseSearch;
+
+    @Value("${employeeAggregates.streaming:false}")
+    boolean streamingAggregates;
 
     private ObjectMapper objectMapper;
 
@@ -35,13 +72,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public List<MockEmployee> getAllEmployees() {
         try {
-            log.info("Fetching all employees by calling getAllEmployees from feignClient");
-            Response<List<MockEmployee>> employees = mockEmployeeClient.getEmployees();
-            if (employees == null || employees.data() == null || employees.data().isEmpty()) {
+            log.info("Fetching all employees from roster cache");
+            List<MockEmployee> employees = employeeRosterCache.get().employees();
+            if (employees.isEmpty()) {
                 log.info("No employees found");
                 throw new NoDataToDisplayException("No Employee to display");
             }
-            return employees.data();
+            return employees;
         } catch (NoDataToDisplayException e) {
             log.error("NoDataToDisplayException exception occurred while fetching all employees from feignClient {}", e.getMessage());
             throw new NoDataToDisplayException(e.getMessage());
@@ -55,13 +92,21 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Retry(name = "mockEmployeeApiRetry", fallbackMethod = "getEmployeesByNameSearchFallbackResponse")
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public List<MockEmployee> getEmployeesByNameSearch(String searchString) {
+        return searchByName(searchString, ignoreCaseSearch);
+    }
+
+    @Retry(name = "mockEmployeeApiRetry", fallbackMethod = "getEmployeesByNameSearchFallbackResponse")
+    @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
+    public List<MockEmployee> getEmployeesByNameSearch(String searchString, boolean ignoreCase) {
+        return searchByName(searchString, ignoreCase);
+    }
+
+    private List<MockEmployee> searchByName(String searchString, boolean ignoreCase) {
         try {
-            log.info("Fetching all employees by calling getAllEmployees ");
-            Response<List<MockEmployee>> employees = mockEmployeeClient.getEmployees();
-            List<MockEmployee> collect = employees.data().stream().
-                    filter(employee -> employee.getName().contains(searchString)).
-                    collect(Collectors.toList());
-            log.info("Fetched all employees based on their names {}", collect);
+            log.info("Searching employees by name in roster index, ignoreCase {}", ignoreCase);
+            employeeRosterCache.get();
+            List<MockEmployee> collect = nameSearchIndex.search(searchString, ignoreCase);
+            log.debug("Fetched all employees based on their names {}", collect);
 
             if (collect.isEmpty()) {
                 log.info("No Employee found whose name contains  '" + searchString + "'");
@@ -81,17 +126,28 @@ public class EmployeeServiceImpl implements EmployeeService {
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public MockEmployee getEmployeeById(String id) {
         UUID uuid = UUID.fromString(id);
+        EmployeeIdIndex.Lookup cached = employeeIdIndex.lookup(uuid);
+        if (cached.result() == EmployeeIdIndex.Result.HIT) {
+            log.info("Found employee with id {} in id index", uuid);
+            return cached.employee();
+        }
+        if (cached.result() == EmployeeIdIndex.Result.NEGATIVE_HIT) {
+            log.info("Employee with id {} is known not to exist", uuid);
+            throw new NoDataToDisplayException("No employee with given id Exists");
+        }
         try {
             log.info("Fetching  employee by Id by calling getEmployee from feignClient");
-            ResponseEntity<Response<MockEmployee>> employeResponseEntity = mockEmployeeClient.getEmployee(uuid);
+            ResponseEntity<Response<MockEmployee>> employeResponseEntity = mockEmployeeGateway.getEmployee(uuid);
             log.info("Response received is {}", employeResponseEntity);
             if (employeResponseEntity.getStatusCode() == HttpStatus.NOT_FOUND || employeResponseEntity.getBody().data() == null) {
                 log.info("No employee with given id {} ", uuid + " Exists");
                 throw new NoDataToDisplayException("No employee with given id Exists");
             }
+            employeeIdIndex.put(employeResponseEntity.getBody().data());
             return employeResponseEntity.getBody().data();
         } catch (NoDataToDisplayException e) {
             log.error("Exception occurred while searching employee by id {}", e.getMessage());
+            employeeIdIndex.putMissing(uuid);
             throw new NoDataToDisplayException(e.getMessage());
         } catch (Exception e) {
             log.error("Unknown exception occurred while searching employee by id {} ", e.getMessage());
@@ -103,9 +159,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public Integer getHighestSalaryOfEmployees() {
         try {
-            log.info("Fetching highest salary of employees from feignClient");
-            Response<List<MockEmployee>> employees = mockEmployeeClient.getEmployees();
-            Integer highestSalary = employees.data().stream().max(Comparator.comparingInt(MockEmployee::getSalary)).map(MockEmployee::getSalary).orElse(0);
+            Integer highestSalary = highestSalary().orElse(0);
             log.info("Fetched highest salary of employee {}", highestSalary);
             if (highestSalary == 0) {
                 log.error("Exception occurred while fetching highest salary of employees");
@@ -124,21 +178,91 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Retry(name = "mockEmployeeApiRetry", fallbackMethod = "getTopTenHighestEarningEmployeeNamesFallback")
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public List<String> getTopTenHighestEarningEmployeeNames() {
+        return topHighestEarningEmployeeNames(TOP_EARNERS_DEFAULT_LIMIT);
+    }
+
+    @Retry(name = "mockEmployeeApiRetry", fallbackMethod = "getTopHighestEarningEmployeeNamesFallback")
+    @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
+    public List<String> getTopHighestEarningEmployeeNames(int limit) {
+        return topHighestEarningEmployeeNames(limit);
+    }
+
+    private List<String> topHighestEarningEmployeeNames(int limit) {
+        try {
+            log.info("Fetching top {} highest earning employees, streaming {}", limit, streamingAggregates);
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Number of top earners must be positive");
+            }
+            List<String> topHighestEarningEmployeeNames = topEarnerNames(limit);
+            log.info("Top {} highest earning employees are  {}", limit, topHighestEarningEmployeeNames);
+            if (topHighestEarningEmployeeNames.isEmpty()) {
+                log.error("No employee found");
+                throw new NoDataToDisplayException("No employee exists ");
+            }
+            return topHighestEarningEmployeeNames;
+        } catch (NoDataToDisplayException e) {
+            log.error("NoDataToDisplayException exception occurred when fetching top highest earning employees {}", e.getMessage());
+            throw new NoDataToDisplayException(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("IllegalArgumentException occurred when fetching top highest earning employees {}", e.getMessage());
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unknown exception occurred when fetching top highest earning employees {}", e.getMessage());
+            throw new EmployeeServiceExecutionException(e.getMessage());
+        }
+    }
+
+    private Optional<Integer> highestSalary() {
+        if (streamingAggregates) {
+            log.info("Fetching highest salary of employees by streaming the roster");
+            TopEarners topEarners = mockEmployeeGateway.streamEmployees(new TopEarners(0));
+            requireRankedSalaries(topEarners.unsalaried());
+            return topEarners.highestSalary();
+        }
+        log.info("Fetching highest salary of employees from salary ranking");
+        employeeRosterCache.get();
+        requireRankedSalaries(salaryRanking.unsalaried());
+        return salaryRanking.highestSalary();
+    }
+
+    private List<String> topEarnerNames(int limit) {
+        if (streamingAggregates) {
+            TopEarners topEarners = mockEmployeeGateway.streamEmployees(new TopEarners(limit));
+            requireRankedSalaries(topEarners.unsalaried());
+            return topEarners.names();
+        }
+        employeeRosterCache.get();
+        requireRankedSalaries(salaryRanking.unsalaried());
+        return salaryRanking.topEarnerNames(limit);
+    }
+
+    /**
+     * Salary queries used to fail on an employee without a salary; keep failing rather than silently skipping them.
+     */
+    private static void requireRankedSalaries(int unsalaried) {
+        if (unsalaried > 0) {
+            throw new IllegalStateException("Roster contains employees without a salary");
+        }
+    }
+
+    @Retry(name = "mockEmployeeApiRetry", fallbackMethod = "getSalaryStatisticsFallback")
+    @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
+    public SalaryStatistics getSalaryStatistics() {
         try {
-            log.info("Fetching top ten highest earning employees from feignClient");
-            Response<List<MockEmployee>> employees = mockEmployeeClient.getEmployees();
-            List<String> topTenHighestEarningEmployeeNames = employees.data().stream().sorted(Comparator.comparingInt(MockEmployee::getSalary).reversed()).limit(10).map(MockEmployee::getName).collect(Collectors.toList());
-            log.info("Top ten highest earning employees are  {}", topTenHighestEarningEmployeeNames);
-            if (topTenHighestEarningEmployeeNames.isEmpty() || topTenHighestEarningEmployeeNames.size() == 0) {
+            log.info("Fetching salary statistics from salary histograms");
+            employeeRosterCache.get();
+            SalaryStatistics salaryStatistics = salaryAnalytics.statistics();
+            log.info("Salary statistics for roster version {} cover {} employees", salaryStatistics.rosterVersion(), salaryStatistics.count());
+            if (salaryStatistics.count() == 0) {
                 log.error("No employee found");
                 throw new NoDataToDisplayException("No employee exists ");
             }
-            return topTenHighestEarningEmployeeNames;
+            return salaryStatistics;
         } catch (NoDataToDisplayException e) {
-            log.error("NoDataToDisplayException exception occurred when fetching top ten highest earning employees {}", e.getMessage());
+            log.error("NoDataToDisplayException exception occurred when fetching salary statistics {}", e.getMessage());
             throw new NoDataToDisplayException(e.getMessage());
         } catch (Exception e) {
-            log.error("Unknown exception occurred when fetching top ten highest earning employees {}", e.getMessage());
+            log.error("Unknown exception occurred when fetching salary statistics {}", e.getMessage());
             throw new EmployeeServiceExecutionException(e.getMessage());
         }
     }
@@ -152,7 +276,9 @@ public class EmployeeServiceImpl implements EmployeeService {
                 log.error("Input is null");
                 throw new IllegalArgumentException("Invalid input type. Expected CreateMockEmployeeInput.");
             }
-            Response<MockEmployee> response = mockEmployeeClient.createEmployee(objectMapper.convertValue(employeeInput, CreateMockEmployeeInput.class));
+            Response<MockEmployee> response = mockEmployeeGateway.createEmployee(objectMapper.convertValue(employeeInput, CreateMockEmployeeInput.class));
+            employeeIdIndex.put(response.data());
+            employeeRosterCache.employeeCreated(response.data());
 
             return response.data();
         } catch (IllegalArgumentException e) {
@@ -169,14 +295,17 @@ public class EmployeeServiceImpl implements EmployeeService {
     @CircuitBreaker(name = "mockEmployeeApiCircuitBreaker")
     public String deleteEmployeeById(String id) {
         log.info("Deleting employee from with id {}", id);
-        var name = getEmployeeById(id).getName();
-        log.info("Fetched name of the employee corresponding to given id  {}", name);
+        UUID uuid = UUID.fromString(id);
+        var name = employeeIdIndex.findName(uuid).orElseGet(() -> getEmployeeById(id).getName());
+        log.info("Resolved name of the employee corresponding to given id  {}", name);
         DeleteMockEmployeeInput input = new DeleteMockEmployeeInput(name);
         try {
-            Response<Boolean> response = mockEmployeeClient.deleteEmployee(input);
+            Response<Boolean> response = mockEmployeeGateway.deleteEmployee(input);
             log.info("Response from downstream is  {}", response);
             if (response.data() != null && response.data()) {
                 log.info("Successfully deleted employee {}", name);
+                employeeIdIndex.putMissing(uuid);
+                employeeRosterCache.employeeDeleted(uuid);
                 return "Employee deleted successfully.";
             } else {
                 log.info("Failed to delete employee {}", name);
@@ -192,38 +321,91 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     public List<MockEmployee> getEmployeesByNameSearchFallbackResponse(String str, Throwable ex) {
-        System.out.println(ex.getMessage());
-        log.warn("Fallback method executed");
-        return new ArrayList<MockEmployee>();
+        return getEmployeesByNameSearchFallbackResponse(str, ignoreCaseSearch, ex);
+    }
+
+    public List<MockEmployee> getEmployeesByNameSearchFallbackResponse(String str, boolean ignoreCase, Throwable ex) {
+        log.warn("Fallback method triggered for getEmployeesByNameSearch due to: {}", ex.getMessage());
+        FallbackMetrics.record(meterRegistry, "getEmployeesByNameSearch", ex);
+        return lastKnownGoodRoster.answer("getEmployeesByNameSearch", ex,
+                        snapshot -> nameSearchIndex.search(str, ignoreCase))
+                .orElseGet(ArrayList::new);
     }
 
     public List<MockEmployee> getAllEmployeesFallback(Exception e) {
         log.warn("Fallback method triggered due to: {}", e.getMessage());
-        return Collections.emptyList();
+        FallbackMetrics.record(meterRegistry, "getAllEmployees", e);
+        return lastKnownGoodRoster.answer("getAllEmployees", e, RosterSnapshot::employees)
+                .orElse(Collections.emptyList());
     }
 
     public MockEmployee getEmployeeByIdFallback(String id, Exception e) {
         log.error("Fallback method triggered for getEmployeeById due to: {}", e.getMessage());
-        return new MockEmployee();
+        FallbackMetrics.record(meterRegistry, "getEmployeeById", e);
+        return lastKnownGoodRoster.answer("getEmployeeById", e, snapshot -> findInRoster(snapshot, id))
+                .orElseGet(MockEmployee::new);
     }
 
     public Integer getHighestSalaryOfEmployeesFallback(Exception e) {
         log.error("Fallback method triggered for getHighestSalaryOfEmployees due to: {}", e.getMessage());
-        return 0;
+        FallbackMetrics.record(meterRegistry, "getHighestSalaryOfEmployees", e);
+        return lastKnownGoodRoster.answer("getHighestSalaryOfEmployees", e,
+                        snapshot -> salaryRanking.unsalaried() > 0 ? null : salaryRanking.highestSalary().orElse(null))
+                .orElse(0);
     }
 
     public List<String> getTopTenHighestEarningEmployeeNamesFallback(Exception e) {
         log.error("Fallback method triggered for getTopTenHighestEarningEmployeeNames: {}", e.getMessage());
-        return Collections.emptyList();
+        FallbackMetrics.record(meterRegistry, "getTopTenHighestEarningEmployeeNames", e);
+        return lastKnownGoodRoster.answer("getTopTenHighestEarningEmployeeNames", e,
+                        snapshot -> rankedTopEarnerNames(TOP_EARNERS_DEFAULT_LIMIT))
+                .orElse(Collections.emptyList());
+    }
+
+    public List<String> getTopHighestEarningEmployeeNamesFallback(int limit, Exception e) {
+        log.error("Fallback method triggered for getTopHighestEarningEmployeeNames: {}", e.getMessage());
+        FallbackMetrics.record(meterRegistry, "getTopHighestEarningEmployeeNames", e);
+        return lastKnownGoodRoster.answer("getTopHighestEarningEmployeeNames", e,
+                        snapshot -> rankedTopEarnerNames(limit))
+                .orElse(Collections.emptyList());
+    }
+
+    public SalaryStatistics getSalaryStatisticsFallback(Exception e) {
+        log.error("Fallback method triggered for getSalaryStatistics: {}", e.getMessage());
+        FallbackMetrics.record(meterRegistry, "getSalaryStatistics", e);
+        return lastKnownGoodRoster.answer("getSalaryStatistics", e, snapshot -> {
+            SalaryStatistics salaryStatistics = salaryAnalytics.statistics();
+            return salaryStatistics.count() == 0 ? null : salaryStatistics;
+        }).orElseGet(() -> new SalaryStatistics(0, 0, null, null, null, null, null, null, Collections.emptyMap(),
+                Collections.emptyMap()));
+    }
+
+    /**
+     * Top earners as ranked from the last loaded roster, for degraded answers; null when they cannot be ranked.
+     */
+    private List<String> rankedTopEarnerNames(int limit) {
+        if (limit <= 0 || salaryRanking.unsalaried() > 0) {
+            return null;
+        }
+        return salaryRanking.topEarnerNames(limit);
+    }
+
+    private static MockEmployee findInRoster(RosterSnapshot snapshot, String id) {
+        return snapshot.employees().stream()
+                .filter(employee -> employee.getId() != null && employee.getId().toString().equalsIgnoreCase(id))
+                .findFirst()
+                .orElse(null);
     }
 
-    public MockEmployee fallbackCreateEmployee(Object employeeInput, Throwable t) {
+    public MockEmployee createEmployeeFallback(Object employeeInput, Throwable t) {
         log.error("Fallback method triggered due to: {}", t.getMessage());
+        FallbackMetrics.record(meterRegistry, "createEmployee", t);
         return new MockEmployee();
     }
 
     public String deleteEmployeeFallback(String id, Throwable throwable) {
         log.error("Fallback triggered for deleteEmployeeById. Error: {}", throwable.getMessage());
+        FallbackMetrics.record(meterRegistry, "deleteEmployeeById", throwable);
         return "Employee deletion failed. Please try again later.";
     }
 
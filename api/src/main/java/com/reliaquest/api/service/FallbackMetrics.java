@@ -0,0 +1,23 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code employee.fallbacks}: requests answered with a fallback value, by service operation and the exception that
+ * triggered the fallback.
+ */
+final class FallbackMetrics {
+
+    private FallbackMetrics() {
+    }
+
+    static void record(MeterRegistry meterRegistry, String operation, Throwable cause) {
+        Counter.builder("employee.fallbacks")
+                .description("Requests answered with a fallback value after the downstream call failed")
+                .tag("operation", operation)
+                .tag("exception", cause == null ? "none" : cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Answers failed reads from the last loaded roster while it is younger than {@code employeeDegraded.maxStaleness}.
+ * Not-found answers and invalid requests are never masked. A degraded answer is recorded on the request as a
+ * {@link Staleness} for the response headers.
+ */
+@Slf4j
+@Component
+public class LastKnownGoodRoster {
+
+    public static final String STALENESS_ATTRIBUTE = LastKnownGoodRoster.class.getName() + ".staleness";
+
+    private final EmployeeRosterCache employeeRosterCache;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public LastKnownGoodRoster(EmployeeRosterCache employeeRosterCache,
+                               @Value("${employeeDegraded.enabled:true}") boolean enabled,
+                               @Value("${employeeDegraded.maxStaleness:10m}") Duration maxStaleness,
+                               MeterRegistry meterRegistry) {
+        this(employeeRosterCache, enabled, maxStaleness, meterRegistry, Clock.systemUTC());
+    }
+
+    public LastKnownGoodRoster(EmployeeRosterCache employeeRosterCache, boolean enabled, Duration maxStaleness,
+                               MeterRegistry meterRegistry, Clock clock) {
+        this.employeeRosterCache = employeeRosterCache;
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Age and version of the snapshot a degraded response was answered from.
+     */
+    public record Staleness(long rosterVersion, Duration age) {
+    }
+
+    /**
+     * {@link #answer(String, Throwable, RequestAttributes, Function)} for the request bound to the calling thread.
+     */
+    public <T> Optional<T> answer(String operation, Throwable cause, Function<RosterSnapshot, T> answer) {
+        return answer(operation, cause, RequestContextHolder.getRequestAttributes(), answer);
+    }
+
+    /**
+     * Answers {@code operation}, which failed with {@code cause}, from the last loaded roster and marks
+     * {@code request} as served stale. Empty when degraded mode does not apply to {@code cause}, when there is no
+     * roster young enough, or when {@code answer} returns null or an empty collection.
+     */
+    public <T> Optional<T> answer(String operation, Throwable cause, RequestAttributes request,
+                                  Function<RosterSnapshot, T> answer) {
+        if (!enabled || cause instanceof NoDataToDisplayException || cause instanceof IllegalArgumentException) {
+            return Optional.empty();
+        }
+        Optional<RosterSnapshot> lastLoaded = employeeRosterCache.lastLoaded();
+        if (lastLoaded.isEmpty()) {
+            return Optional.empty();
+        }
+        RosterSnapshot snapshot = lastLoaded.get();
+        Duration age = snapshot.age(clock.instant());
+        if (age.compareTo(maxStaleness) >= 0) {
+            log.warn("Last known roster version {} is {}s old, too stale to answer {}", snapshot.version(),
+                    age.toSeconds(), operation);
+            return Optional.empty();
+        }
+        T value = answer.apply(snapshot);
+        if (value == null || (value instanceof Collection<?> collection && collection.isEmpty())) {
+            return Optional.empty();
+        }
+        log.warn("Answering {} from roster version {} fetched {}s ago", operation, snapshot.version(), age.toSeconds());
+        if (request instanceof ServletRequestAttributes servletRequest) {
+            // set on the servlet request itself: an async request's attributes are inactive once its handler returned
+            servletRequest.getRequest().setAttribute(STALENESS_ATTRIBUTE, new Staleness(snapshot.version(), age));
+        }
+        Counter.builder("employee.degraded.responses")
+                .description("Requests answered from the last known roster after the downstream call failed")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+        return Optional.of(value);
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for the virtual-thread execution mode: far more requests than Tomcat has platform threads are each
+ * blocked on a slow downstream call at the same time.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "employeeRateLimiter.enabled=false",
+        "employeeConcurrency.enabled=false",
+        "resilience4j.circuitbreaker.instances.mockEmployeeApiCircuitBreaker.slowCallDurationThreshold=10s"
+})
+class VirtualThreadConcurrencyTest {
+
+    private static final int REQUESTS = 400;
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofSeconds(2);
+
+    @LocalServerPort
+    int port;
+
+    @MockBean
+    MockEmployeeClient mockEmployeeClient;
+
+    @Test
+    void concurrentRequestsScalePastPlatformThreadPool() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(mockEmployeeClient.getEmployee(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(DOWNSTREAM_LATENCY);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            UUID id = invocation.getArgument(0);
+            return ResponseEntity.ok(Response.handledWith(
+                    new MockEmployee(id, "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com")));
+        });
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder().executor(executor).build();
+            for (int i = 0; i < REQUESTS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/v1/api/iemployee/" + UUID.randomUUID()))
+                        .timeout(Duration.ofSeconds(60))
+                        .build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.join().statusCode());
+            }
+        }
+
+        assertTrue(maxInFlight.get() > 200,
+                "expected more than 200 concurrent downstream calls but saw " + maxInFlight.get());
+    }
+}
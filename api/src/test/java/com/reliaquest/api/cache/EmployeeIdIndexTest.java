@@ -0,0 +1,93 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.model.MockEmployee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeIdIndexTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmployeeIdIndex index =
+            new EmployeeIdIndex(2, Duration.ofMinutes(1), Duration.ofSeconds(5), meterRegistry, clock);
+
+    @Test
+    void lookup_entriesExpireAfterTtl() {
+        MockEmployee employee = employee();
+        index.put(employee);
+
+        assertEquals(new EmployeeIdIndex.Lookup(EmployeeIdIndex.Result.HIT, employee), index.lookup(employee.getId()));
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(EmployeeIdIndex.Result.MISS, index.lookup(employee.getId()).result());
+    }
+
+    @Test
+    void lookup_negativeEntriesExpireAfterNegativeTtl() {
+        UUID unknown = UUID.randomUUID();
+        index.putMissing(unknown);
+
+        assertEquals(EmployeeIdIndex.Result.NEGATIVE_HIT, index.lookup(unknown).result());
+        clock.advance(Duration.ofSeconds(6));
+        assertEquals(EmployeeIdIndex.Result.MISS, index.lookup(unknown).result());
+
+        assertEquals(1.0, meterRegistry.get("employee.id.index.lookups").tag("result", "negative_hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("employee.id.index.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void rosterChanges_feedIndexAndEvictLeastRecentlyUsed() {
+        MockEmployee first = employee();
+        MockEmployee second = employee();
+        MockEmployee third = employee();
+        index.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(first, second)));
+        index.lookup(first.getId());
+
+        index.employeeAdded(third, null);
+        index.employeeRemoved(first, null);
+
+        assertEquals(EmployeeIdIndex.Result.NEGATIVE_HIT, index.lookup(first.getId()).result());
+        assertEquals(EmployeeIdIndex.Result.MISS, index.lookup(second.getId()).result());
+        assertEquals(EmployeeIdIndex.Result.HIT, index.lookup(third.getId()).result());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void findName_expiresWithEntry() {
+        MockEmployee employee = employee();
+        index.put(employee);
+
+        assertEquals(Optional.of("Priya Biswas"), index.findName(employee.getId()));
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(Optional.empty(), index.findName(employee.getId()));
+        assertEquals(1.0, meterRegistry.get("employee.id.index.name.lookups").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("employee.id.index.name.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void rosterReloaded_dropsIdsNoLongerInRoster() {
+        MockEmployee kept = employee();
+        MockEmployee removedElsewhere = employee();
+        index.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(kept, removedElsewhere)));
+
+        index.rosterReloaded(new RosterSnapshot(2, Instant.now(), List.of(kept)));
+
+        assertEquals(Optional.empty(), index.findName(removedElsewhere.getId()));
+        assertEquals(EmployeeIdIndex.Result.MISS, index.lookup(removedElsewhere.getId()).result());
+        assertEquals(EmployeeIdIndex.Result.HIT, index.lookup(kept.getId()).result());
+    }
+
+    private static MockEmployee employee() {
+        return new MockEmployee(UUID.randomUUID(), "Priya Biswas", 60000, 30, "Engineer", "priyab@example.com");
+    }
+}
@@ -0,0 +1,242 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeRosterCacheTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final MutableClock clock = new MutableClock();
+
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+
+    private EmployeeRosterCache cache;
+
+    private final MockEmployee employee1 = new MockEmployee(
+            UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+    private final MockEmployee employee2 = new MockEmployee(
+            UUID.randomUUID(), "Vidya Sharma", 65000, 28, "Data Scientist", "vidyasharma@example.com");
+
+    @BeforeEach
+    void setUp() {
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry());
+        cache = new EmployeeRosterCache(gateway, Duration.ofSeconds(30), Duration.ofSeconds(5),
+                Duration.ofSeconds(60), clock, scheduledRefreshes::add, List.of());
+    }
+
+    @Test
+    void get_loadsOnceAndServesFromCacheWithinTtl() {
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee1, employee2)));
+
+        RosterSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(10));
+        RosterSnapshot second = cache.get();
+
+        assertSame(first, second);
+        assertEquals(2, second.employees().size());
+        assertTrue(scheduledRefreshes.isEmpty());
+        verify(mockEmployeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void get_refreshesAheadInBackgroundAndKeepsServingStaleSnapshot() {
+        when(mockEmployeeClient.getEmployees())
+                .thenReturn(Response.handledWith(List.of(employee1)))
+                .thenReturn(Response.handledWith(List.of(employee1, employee2)));
+
+        RosterSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(26));
+        assertSame(first, cache.get());
+        clock.advance(Duration.ofSeconds(30));
+        assertSame(first, cache.get());
+        assertEquals(1, scheduledRefreshes.size(), "only one background refresh may be in flight");
+
+        scheduledRefreshes.get(0).run();
+        RosterSnapshot refreshed = cache.get();
+
+        assertTrue(refreshed.version() > first.version());
+        assertEquals(2, refreshed.employees().size());
+        verify(mockEmployeeClient, times(2)).getEmployees();
+    }
+
+    @Test
+    void get_reloadsSynchronouslyOnceStaleWindowHasPassed() {
+        when(mockEmployeeClient.getEmployees())
+                .thenReturn(Response.handledWith(List.of(employee1)))
+                .thenReturn(Response.handledWith(List.of(employee2)));
+
+        cache.get();
+        clock.advance(Duration.ofSeconds(91));
+        RosterSnapshot reloaded = cache.get();
+
+        assertEquals(List.of(employee2), reloaded.employees());
+        verify(mockEmployeeClient, times(2)).getEmployees();
+    }
+
+    @Test
+    void get_backgroundFailureKeepsStaleSnapshot() {
+        when(mockEmployeeClient.getEmployees())
+                .thenReturn(Response.handledWith(List.of(employee1)))
+                .thenThrow(new RuntimeException("429"));
+
+        RosterSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(40));
+        cache.get();
+        scheduledRefreshes.get(0).run();
+
+        assertSame(first, cache.get());
+    }
+
+    @Test
+    void employeeCreatedAndDeleted_areAppliedLocallyWithNewVersions() {
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee1)));
+
+        RosterSnapshot loaded = cache.get();
+        cache.employeeCreated(employee2);
+        RosterSnapshot afterCreate = cache.get();
+        cache.employeeDeleted(employee1.getId());
+        RosterSnapshot afterDelete = cache.get();
+
+        assertEquals(List.of(employee1, employee2), afterCreate.employees());
+        assertEquals(List.of(employee2), afterDelete.employees());
+        assertTrue(loaded.version() < afterCreate.version() && afterCreate.version() < afterDelete.version());
+        assertEquals(List.of(employee1), loaded.employees(), "published snapshots are immutable");
+        verify(mockEmployeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void backgroundRefreshRacingLocalChange_isDiscarded() {
+        when(mockEmployeeClient.getEmployees()).thenAnswer(invocation -> {
+            if (scheduledRefreshes.isEmpty()) {
+                return Response.handledWith(List.of(employee1));
+            }
+            cache.employeeCreated(employee2);
+            return Response.handledWith(List.of(employee1));
+        });
+
+        cache.get();
+        clock.advance(Duration.ofSeconds(26));
+        cache.get();
+        scheduledRefreshes.get(0).run();
+
+        assertEquals(List.of(employee1, employee2), cache.get().employees());
+    }
+
+    @Test
+    void refresh_reusesDecodedRosterWhenServerAnswersNotModified() {
+        String body = "{\"data\":[{\"id\":\"" + employee1.getId() + "\",\"employee_name\":\"Priya Biswas\","
+                + "\"employee_salary\":60000}],\"status\":\"Successfully processed request.\"}";
+        when(mockEmployeeClient.getEmployeesIfNoneMatch(null))
+                .thenReturn(rawResponse(200, Map.of("ETag", List.of("\"a1-0\"")), body));
+        when(mockEmployeeClient.getEmployeesIfNoneMatch("\"a1-0\"")).thenAnswer(invocation -> rawResponse(304, Map.of(), ""));
+        List<RosterSnapshot> rebuilds = new ArrayList<>();
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, AdaptiveRateLimiter.unlimited(), true,
+                new SimpleMeterRegistry());
+        EmployeeRosterCache conditionalCache = new EmployeeRosterCache(gateway, Duration.ofSeconds(30),
+                Duration.ofSeconds(5), Duration.ofSeconds(60), clock, scheduledRefreshes::add, List.of(rebuildRecorder(rebuilds)));
+
+        RosterSnapshot loaded = conditionalCache.get();
+        clock.advance(Duration.ofSeconds(20));
+        RosterSnapshot renewed = conditionalCache.refresh(RequestPriority.USER);
+        conditionalCache.refresh(RequestPriority.USER);
+
+        assertEquals("Priya Biswas", loaded.employees().get(0).getName());
+        assertEquals(loaded.version(), renewed.version());
+        assertSame(loaded.employees(), renewed.employees());
+        assertEquals(clock.instant(), renewed.fetchedAt());
+        assertEquals(1, rebuilds.size(), "views are rebuilt only for a new roster");
+        verify(mockEmployeeClient, times(1)).getEmployeesIfNoneMatch(null);
+        verify(mockEmployeeClient, times(2)).getEmployeesIfNoneMatch("\"a1-0\"");
+        verify(mockEmployeeClient, never()).getEmployees();
+    }
+
+    @Test
+    void refresh_appliesChangeLogAndResyncsWhenItIsTruncated() {
+        String roster = "{\"data\":[{\"id\":\"" + employee1.getId() + "\",\"employee_name\":\"Priya Biswas\","
+                + "\"employee_salary\":60000}],\"status\":\"Successfully processed request.\"}";
+        when(mockEmployeeClient.getEmployeesIfNoneMatch(null))
+                .thenReturn(rawResponse(200, Map.of("ETag", List.of("\"a1-3\"")), roster));
+        when(mockEmployeeClient.getEmployeesIfNoneMatch("\"a1-3\""))
+                .thenReturn(rawResponse(200, Map.of("ETag", List.of("\"a1-1200\"")), roster));
+        when(mockEmployeeClient.getEmployeeChanges("a1", 3)).thenReturn(Response.handledWith(new EmployeeChanges("a1", 5,
+                false, List.of(new EmployeeChange(4, EmployeeChange.Type.CREATED, employee2.getId(), employee2),
+                new EmployeeChange(5, EmployeeChange.Type.DELETED, employee1.getId(), null)))));
+        when(mockEmployeeClient.getEmployeeChanges("a1", 5))
+                .thenReturn(Response.handledWith(new EmployeeChanges("a1", 5, false, List.of())))
+                .thenReturn(Response.handledWith(new EmployeeChanges("a1", 1200, true, List.of())));
+        List<RosterSnapshot> rebuilds = new ArrayList<>();
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, AdaptiveRateLimiter.unlimited(), true,
+                new SimpleMeterRegistry());
+        EmployeeRosterCache syncingCache = new EmployeeRosterCache(gateway, Duration.ofSeconds(30), Duration.ofSeconds(5),
+                Duration.ofSeconds(60), true, clock, scheduledRefreshes::add, List.of(rebuildRecorder(rebuilds)));
+
+        syncingCache.get();
+        syncingCache.employeeCreated(employee2);
+        RosterSnapshot synced = syncingCache.refresh(RequestPriority.USER);
+        RosterSnapshot unchanged = syncingCache.refresh(RequestPriority.USER);
+        RosterSnapshot resynced = syncingCache.refresh(RequestPriority.USER);
+
+        assertEquals(List.of(employee2), synced.employees());
+        assertEquals(synced.version(), unchanged.version());
+        assertEquals(1, resynced.employees().size());
+        assertEquals(employee1.getId(), resynced.employees().get(0).getId());
+        assertEquals(2, rebuilds.size(), "only the initial load and the resync rebuild the views");
+        verify(mockEmployeeClient, times(2)).getEmployeesIfNoneMatch(any());
+    }
+
+    private static RosterListener rebuildRecorder(List<RosterSnapshot> rebuilds) {
+        return new RosterListener() {
+            @Override
+            public void rosterReloaded(RosterSnapshot snapshot) {
+                rebuilds.add(snapshot);
+            }
+
+            @Override
+            public void employeeAdded(MockEmployee employee, RosterSnapshot snapshot) {
+            }
+
+            @Override
+            public void employeeRemoved(MockEmployee employee, RosterSnapshot snapshot) {
+            }
+        };
+    }
+
+    private static feign.Response rawResponse(int status, Map<String, Collection<String>> headers, String body) {
+        return feign.Response.builder()
+                .status(status)
+                .request(feign.Request.create(feign.Request.HttpMethod.GET, "/api/v1/employee",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .headers(headers)
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.client.RosterVersion;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.model.MockEmployee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RosterEventSubscriberTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final MutableClock clock = new MutableClock();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockEmployee employee1 = new MockEmployee(
+            UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+    private final MockEmployee employee2 = new MockEmployee(
+            UUID.randomUUID(), "Vidya Sharma", 65000, 28, "Data Scientist", "vidyasharma@example.com");
+
+    private EmployeeRosterCache cache;
+    private RosterEventSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String roster = "{\"data\":[" + objectMapper.writeValueAsString(employee1)
+                + "],\"status\":\"Successfully processed request.\"}";
+        when(mockEmployeeClient.getEmployeesIfNoneMatch(null)).thenReturn(feign.Response.builder()
+                .status(200)
+                .request(feign.Request.create(feign.Request.HttpMethod.GET, "/api/v1/employee",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .headers(Map.of("ETag", List.of("\"a1-3\"")))
+                .body(roster, StandardCharsets.UTF_8)
+                .build());
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, AdaptiveRateLimiter.unlimited(), true,
+                new SimpleMeterRegistry());
+        cache = new EmployeeRosterCache(gateway, Duration.ofSeconds(30), Duration.ofSeconds(5),
+                Duration.ofSeconds(60), true, clock, scheduledRefreshes::add, List.of());
+        subscriber = new RosterEventSubscriber(cache, AdaptiveRateLimiter.unlimited(), "http://localhost:8112",
+                false, Duration.ofSeconds(1), Duration.ofSeconds(60), Duration.ofSeconds(45));
+        cache.get();
+    }
+
+    @Test
+    void consume_appliesPushedChangesInOrder() throws IOException {
+        String events = "id: a1-4\nevent: created\ndata: {\"sequence\":4,\"type\":\"CREATED\",\"id\":\""
+                + employee2.getId() + "\",\"employee\":" + objectMapper.writeValueAsString(employee2) + "}\n\n"
+                + ":heartbeat\n\n"
+                + "id: a1-5\nevent: deleted\ndata: {\"sequence\":5,\"type\":\"DELETED\",\"id\":\""
+                + employee1.getId() + "\"}\n\n";
+
+        subscriber.consume(new BufferedReader(new StringReader(events)), cache.position());
+
+        assertEquals(List.of(employee2), cache.get().employees());
+        assertEquals(new RosterVersion("a1", 5), cache.position());
+        assertTrue(scheduledRefreshes.isEmpty());
+        verify(mockEmployeeClient, times(1)).getEmployeesIfNoneMatch(null);
+        verify(mockEmployeeClient, never()).getEmployeeChanges(any(), anyLong());
+    }
+
+    @Test
+    void consume_gapOrResyncFallsBackToRefresh() throws IOException {
+        String events = "id: a1-9\nevent: deleted\ndata: {\"sequence\":9,\"type\":\"DELETED\",\"id\":\""
+                + employee1.getId() + "\"}\n\n";
+
+        subscriber.consume(new BufferedReader(new StringReader(events)), cache.position());
+
+        assertEquals(List.of(employee1), cache.get().employees(), "a change after a gap is not applied");
+        assertEquals(new RosterVersion("a1", 3), cache.position());
+        assertEquals(1, scheduledRefreshes.size());
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void limitGrowsWhileRoundTripsStayFlatAndShrinksWhenTheyClimb() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, Duration.ZERO, 0);
+
+        roundTrips(limiter, 20, Duration.ofMillis(10));
+        int grown = limiter.limit(DownstreamOperation.READ);
+        assertTrue(grown > 20, "limit " + grown);
+
+        for (int i = 0; i < 3; i++) {
+            roundTrips(limiter, limiter.limit(DownstreamOperation.READ), Duration.ofMillis(100));
+        }
+        int shrunk = limiter.limit(DownstreamOperation.READ);
+        assertTrue(shrunk < 20, "limit " + shrunk);
+        assertEquals(shrunk, meterRegistry.get("employee.downstream.concurrency.limit").tag("operation", "read")
+                .gauge().value());
+        assertEquals(20, limiter.limit(DownstreamOperation.CREATE));
+    }
+
+    @Test
+    void droppedCallsShrinkTheLimitAndThrottledOnesDoNot() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, Duration.ZERO, 0);
+
+        limiter.acquire(DownstreamOperation.DELETE, RequestPriority.USER)
+                .complete(AdaptiveConcurrencyLimiter.Result.IGNORED);
+        assertEquals(20, limiter.limit(DownstreamOperation.DELETE));
+
+        limiter.acquire(DownstreamOperation.DELETE, RequestPriority.USER)
+                .complete(AdaptiveConcurrencyLimiter.Result.DROPPED);
+        assertEquals(18, limiter.limit(DownstreamOperation.DELETE));
+        assertEquals(0, limiter.inFlight(DownstreamOperation.DELETE));
+    }
+
+    @Test
+    void atTheLimitUserCallsQueueAndOthersAreRejected() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(5), 1);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(DownstreamOperation.READ, RequestPriority.USER);
+        limiter.acquire(DownstreamOperation.READ, RequestPriority.USER);
+
+        assertThrows(DownstreamThrottledException.class,
+                () -> limiter.acquire(DownstreamOperation.READ, RequestPriority.BACKGROUND));
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> queued = CompletableFuture.supplyAsync(
+                () -> limiter.acquire(DownstreamOperation.READ, RequestPriority.USER));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.queued(DownstreamOperation.READ) == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, limiter.queued(DownstreamOperation.READ));
+        assertThrows(DownstreamThrottledException.class,
+                () -> limiter.acquire(DownstreamOperation.READ, RequestPriority.USER));
+        assertNotNull(limiter.acquire(DownstreamOperation.CREATE, RequestPriority.BACKGROUND));
+
+        first.complete(AdaptiveConcurrencyLimiter.Result.IGNORED);
+
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, limiter.inFlight(DownstreamOperation.READ));
+        assertEquals(2.0, meterRegistry.get("employee.downstream.concurrency.rejected").tag("operation", "read")
+                .counter().count());
+    }
+
+    private void roundTrips(AdaptiveConcurrencyLimiter limiter, int calls, Duration rtt) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            permits.add(limiter.acquire(DownstreamOperation.READ, RequestPriority.USER));
+        }
+        nanoTime.addAndGet(rtt.toNanos());
+        permits.forEach(permit -> permit.complete(AdaptiveConcurrencyLimiter.Result.ANSWERED));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, Duration maxQueueWait, int maxQueued) {
+        return new AdaptiveConcurrencyLimiter(true, initialLimit, 1, 200, maxQueueWait, maxQueued, meterRegistry,
+                nanoTime::get);
+    }
+}
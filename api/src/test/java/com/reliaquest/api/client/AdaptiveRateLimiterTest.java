@@ -0,0 +1,180 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.DownstreamThrottledException;
+import com.reliaquest.api.exception.FeignExecutionException;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveRateLimiterTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final MutableClock clock = new MutableClock();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void learnsQuotaFromFirst429AndHoldsCallsForBackoff() {
+        AdaptiveRateLimiter limiter = limiter(10);
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, limiter, meterRegistry);
+        when(mockEmployeeClient.getEmployees())
+                .thenReturn(Response.handledWith(List.of()))
+                .thenReturn(Response.handledWith(List.of()))
+                .thenReturn(Response.handledWith(List.of()))
+                .thenThrow(new FeignExecutionException(429, "Too Many Requests"));
+
+        for (int i = 0; i < 3; i++) {
+            gateway.getEmployees();
+        }
+        assertThrows(FeignExecutionException.class, gateway::getEmployees);
+
+        assertEquals(3.0, limiter.quota());
+        assertEquals(0, limiter.available());
+        DownstreamThrottledException exception = assertThrows(DownstreamThrottledException.class,
+                gateway::getEmployees);
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+        verify(mockEmployeeClient, times(4)).getEmployees();
+        assertEquals(1.0, meterRegistry.get("employee.downstream.limiter.throttled").counter().count());
+        assertEquals(1.0, meterRegistry.get("employee.downstream.limiter.rejected").tag("priority", "user")
+                .counter().count());
+    }
+
+    @Test
+    void userRosterReadDoesNotJoinAShedBackgroundFlight() throws Exception {
+        AdaptiveRateLimiter limiter = limiter(3);
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, limiter, meterRegistry);
+        CountDownLatch backgroundStarted = new CountDownLatch(1);
+        CountDownLatch releaseBackground = new CountDownLatch(1);
+        Response<List<MockEmployee>> roster = Response.handledWith(List.of());
+        when(mockEmployeeClient.getEmployees()).thenAnswer(invocation -> {
+            if (backgroundStarted.getCount() > 0) {
+                backgroundStarted.countDown();
+                releaseBackground.await();
+            }
+            return roster;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<Response<List<MockEmployee>>> background =
+                    executor.submit(() -> gateway.getEmployees(RequestPriority.BACKGROUND));
+            assertTrue(backgroundStarted.await(5, TimeUnit.SECONDS));
+            assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.BACKGROUND));
+
+            Future<Response<List<MockEmployee>>> user =
+                    executor.submit(() -> gateway.getEmployees(RequestPriority.USER));
+            assertSame(roster, user.get(5, TimeUnit.SECONDS));
+            assertFalse(background.isDone());
+
+            releaseBackground.countDown();
+            assertSame(roster, background.get(5, TimeUnit.SECONDS));
+        } finally {
+            releaseBackground.countDown();
+            executor.shutdownNow();
+        }
+        verify(mockEmployeeClient, times(2)).getEmployees();
+    }
+
+    @Test
+    void probesAfterBackoffAndNarrowsTheEstimate() {
+        AdaptiveRateLimiter limiter = limiter(1);
+        limiter.acquire(RequestPriority.USER).complete(false);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.USER));
+
+        clock.advance(Duration.ofSeconds(30));
+        limiter.acquire(RequestPriority.USER).complete(true);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.USER));
+        clock.advance(Duration.ofSeconds(2));
+        limiter.acquire(RequestPriority.USER).complete(true);
+        clock.advance(Duration.ofSeconds(2));
+        limiter.acquire(RequestPriority.USER).complete(false);
+
+        assertEquals(Duration.ofSeconds(32), limiter.backoff());
+        assertEquals(2.0, limiter.quota());
+    }
+
+    @Test
+    void keepsLastPermitsForUsersAndGrowsQuotaAfterCleanWindow() {
+        AdaptiveRateLimiter limiter = limiter(3);
+
+        limiter.acquire(RequestPriority.BACKGROUND).complete(false);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.BACKGROUND));
+        limiter.acquire(RequestPriority.BULK).complete(false);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.BULK));
+        limiter.acquire(RequestPriority.USER).complete(false);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.USER));
+
+        clock.advance(Duration.ofSeconds(30));
+        limiter.acquire(RequestPriority.BACKGROUND).complete(false);
+
+        assertEquals(4.0, limiter.quota());
+        assertEquals(4, limiter.available());
+        assertEquals(1.0, meterRegistry.get("employee.downstream.limiter.rejected").tag("priority", "background")
+                .counter().count());
+    }
+
+    @Test
+    void releasesReserveOnceTheWindowHasBeenIdle() {
+        AdaptiveRateLimiter limiter = limiter(3);
+        limiter.acquire(RequestPriority.USER).complete(false);
+
+        DownstreamThrottledException exception = assertThrows(DownstreamThrottledException.class,
+                () -> limiter.acquire(RequestPriority.BACKGROUND));
+        assertEquals(Duration.ofSeconds(10), exception.getRetryAfter());
+
+        clock.advance(Duration.ofSeconds(10));
+        limiter.acquire(RequestPriority.BACKGROUND).complete(false);
+        assertThrows(DownstreamThrottledException.class, () -> limiter.acquire(RequestPriority.BULK));
+        clock.advance(Duration.ofSeconds(10));
+        limiter.acquire(RequestPriority.BULK).complete(false);
+        assertEquals(0, limiter.available());
+    }
+
+    @Test
+    void releasedPermitIsHandedBackWithoutCountingAsAccepted() {
+        AdaptiveRateLimiter limiter = limiter(2);
+
+        limiter.acquire(RequestPriority.USER).release();
+        limiter.acquire(RequestPriority.USER).complete(false);
+        limiter.acquire(RequestPriority.USER).complete(false);
+
+        assertEquals(0, limiter.available());
+        assertEquals(2.0, limiter.quota());
+    }
+
+    @Test
+    void disabledLimiterNeverRejects() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(false, 1, Duration.ofSeconds(30), Duration.ofSeconds(2),
+                Duration.ZERO, 1, 2, Duration.ofSeconds(10), meterRegistry, clock);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(RequestPriority.BACKGROUND).complete(true);
+        }
+        assertEquals(1.0, limiter.quota());
+    }
+
+    private AdaptiveRateLimiter limiter(int initialQuota) {
+        return new AdaptiveRateLimiter(true, initialQuota, Duration.ofSeconds(30), Duration.ofSeconds(2),
+                Duration.ZERO, 1, 2, Duration.ofSeconds(10), meterRegistry, clock);
+    }
+}
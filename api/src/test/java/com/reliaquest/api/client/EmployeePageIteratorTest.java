@@ -0,0 +1,95 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.FeignExecutionException;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeePageIteratorTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    @Test
+    void iteratesAllPagesFollowingTheCursor() {
+        List<MockEmployee> roster = roster(25);
+        when(mockEmployeeClient.getEmployeePage(any(), eq(10))).thenAnswer(invocation -> {
+            UUID after = invocation.getArgument(0);
+            List<MockEmployee> remaining = roster.stream()
+                    .filter(employee -> after == null || employee.getId().compareTo(after) > 0)
+                    .toList();
+            List<MockEmployee> page = remaining.subList(0, Math.min(10, remaining.size()));
+            UUID nextCursor = remaining.size() > 10 ? page.get(9).getId() : null;
+            return Response.handledWith(new EmployeePage(page, nextCursor));
+        });
+        MockEmployeeGateway gateway = new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry());
+
+        List<MockEmployee> employees = new ArrayList<>();
+        try (EmployeePageIterator pages = gateway.getEmployeePages(10, RequestPriority.BULK)) {
+            pages.forEachRemaining(employees::add);
+            assertEquals(3, pages.pages());
+        }
+
+        assertEquals(roster, employees);
+        verify(mockEmployeeClient, times(3)).getEmployeePage(any(), eq(10));
+    }
+
+    @Test
+    void prefetchesNextPageBeforeCurrentOneIsConsumed() throws InterruptedException {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        UUID cursor = UUID.randomUUID();
+        MockEmployee first = roster(1).get(0);
+        EmployeePageIterator pages = new EmployeePageIterator((after, limit) -> {
+            if (after == null) {
+                return new EmployeePage(List.of(first, first), cursor);
+            }
+            secondPageRequested.countDown();
+            return new EmployeePage(List.of(), null);
+        }, 2, Executors.newVirtualThreadPerTaskExecutor());
+
+        assertEquals(first, pages.next());
+        assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS), "second page was not prefetched");
+        assertEquals(first, pages.next());
+        assertFalse(pages.hasNext());
+    }
+
+    @Test
+    void surfacesFailedPageFetch() {
+        EmployeePageIterator pages = new EmployeePageIterator((after, limit) -> {
+            throw new FeignExecutionException(429, "Too Many Requests");
+        }, 10, Runnable::run);
+
+        FeignExecutionException exception = assertThrows(FeignExecutionException.class, pages::hasNext);
+        assertEquals(429, exception.status());
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            roster.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 50000 + i, 30, "Engineer",
+                    "employee" + i + "@example.com"));
+        }
+        roster.sort(Comparator.comparing(MockEmployee::getId));
+        return roster;
+    }
+}
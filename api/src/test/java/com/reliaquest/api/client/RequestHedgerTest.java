@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestHedgerTest {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_slowCallIsHedgedAndCancelled() throws Exception {
+        // 20 calls at 0.05 earn exactly one hedge
+        RequestHedger hedger = hedger(0.05);
+        warmUp(hedger);
+        assertEquals(Duration.ofMillis(10), hedger.delay());
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        String result = hedger.execute(() -> {
+            try {
+                Thread.sleep(10_000);
+                return "first";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        }, () -> "hedge");
+
+        assertEquals("hedge", result);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, hedges("won"));
+    }
+
+    @Test
+    void execute_withoutBudgetWaitsForTheFirstCall() {
+        RequestHedger hedger = hedger(0);
+        warmUp(hedger);
+        AtomicInteger hedges = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            sleep(50);
+            return "first";
+        }, () -> {
+            hedges.incrementAndGet();
+            return "hedge";
+        });
+
+        assertEquals("first", result);
+        assertEquals(0, hedges.get());
+        assertEquals(1, hedges("over_budget"));
+    }
+
+    @Test
+    void execute_notFoundIsAnAnswerAndIsNotHedged() {
+        RequestHedger hedger = hedger(1);
+        warmUp(hedger);
+        AtomicInteger hedges = new AtomicInteger();
+
+        assertThrows(NoDataToDisplayException.class, () -> hedger.execute(() -> {
+            throw new NoDataToDisplayException("Resource not found");
+        }, () -> {
+            hedges.incrementAndGet();
+            return "hedge";
+        }));
+        assertEquals(0, hedges.get());
+    }
+
+    private RequestHedger hedger(double budget) {
+        return new RequestHedger(true, 0.95, Duration.ofMillis(10), budget, 100, MIN_SAMPLES, meterRegistry);
+    }
+
+    private static void warmUp(RequestHedger hedger) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            hedger.execute(() -> "fast", () -> fail("hedged before the delay was known"));
+        }
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.get("employee.downstream.hedges").tag("outcome", outcome).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
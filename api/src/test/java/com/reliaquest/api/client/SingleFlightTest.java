@@ -0,0 +1,107 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("getEmployees", meterRegistry);
+
+    @Test
+    void execute_concurrentCallersShareOneCall() throws Exception {
+        int callers = 8;
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("roster", () -> {
+                    downstreamCalls.incrementAndGet();
+                    await(release);
+                    return "employees";
+                })));
+            }
+            waitUntilAllJoined(callers);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("employees", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(0, singleFlight.inFlight());
+        DistributionSummary merged = meterRegistry.get("employee.downstream.coalesced.callers").summary();
+        assertEquals(1, merged.count());
+        assertEquals(callers - 1, merged.totalAmount());
+    }
+
+    @Test
+    void execute_failureIsSharedAndNextCallStartsNewFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("roster", () -> {
+                await(release);
+                throw new IllegalStateException("429 Too Many Requests");
+            }));
+            waitUntil(() -> singleFlight.inFlight() == 1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("roster", () -> "unused"));
+            waitUntilAllJoined(2);
+            release.countDown();
+
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertSame(leaderFailure.getCause(), followerFailure.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("fresh", singleFlight.execute("roster", () -> "fresh"));
+    }
+
+    @Test
+    void execute_differentKeysDoNotShareCalls() {
+        assertEquals("a", singleFlight.execute("a", () -> "a"));
+        assertEquals("b", singleFlight.execute("b", () -> "b"));
+        assertEquals(0, meterRegistry.get("employee.downstream.coalesced.callers").summary().totalAmount());
+    }
+
+    private void waitUntilAllJoined(int callers) throws InterruptedException {
+        waitUntil(() -> singleFlight.followers("roster") >= callers - 1);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class FeignTransportConfigTest {
+
+    @Autowired
+    CloseableHttpClient httpClient5;
+
+    @Test
+    void connectionPoolLeaseWaitIsTwoSeconds() {
+        RequestConfig requestConfig = ((Configurable) httpClient5).getConfig();
+
+        assertEquals(Timeout.ofSeconds(2), requestConfig.getConnectionRequestTimeout());
+    }
+}
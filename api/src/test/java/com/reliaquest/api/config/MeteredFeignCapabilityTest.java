@@ -0,0 +1,70 @@
+package com.reliaquest.api.config;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeteredFeignCapabilityTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredFeignCapability capability = new MeteredFeignCapability(meterRegistry);
+
+    @Test
+    void enrich_timesCallsByMethodStatusAndOutcome() throws IOException {
+        Client client = capability.enrich((Client) (request, options) -> Response.builder()
+                .status(304)
+                .request(request)
+                .headers(Map.of())
+                .build());
+
+        client.execute(request("MockEmployeeClient#getEmployeesIfNoneMatch(String)"), new Request.Options());
+        client.execute(request("MockEmployeeClient#getEmployeesIfNoneMatch(String)"), new Request.Options());
+
+        Timer timer = meterRegistry.get(MeteredFeignCapability.METRIC)
+                .tag("method", "MockEmployeeClient#getEmployeesIfNoneMatch(String)")
+                .tag("status", "304")
+                .tag("outcome", "REDIRECTION")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void enrich_recordsTransportFailures() {
+        Client client = capability.enrich((Client) (request, options) -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        assertThrows(ConnectException.class,
+                () -> client.execute(request("MockEmployeeClient#getEmployees()"), new Request.Options()));
+
+        assertEquals(1, meterRegistry.get(MeteredFeignCapability.METRIC)
+                .tag("method", "MockEmployeeClient#getEmployees()")
+                .tag("status", "IO_ERROR")
+                .tag("outcome", "UNKNOWN")
+                .timer().count());
+    }
+
+    private static Request request(String configKey) {
+        MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(MockEmployeeClient.class).stream()
+                .filter(method -> method.configKey().equals(configKey))
+                .findFirst()
+                .orElseThrow();
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, "http://localhost:8112/api/v1/employee", Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeStreamingControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EmployeeServiceImpl employeeServiceImpl;
+
+    @InjectMocks
+    private EmployeeStreamingController employeeStreamingController;
+
+    @BeforeEach
+    void setUp() {
+        employeeStreamingController.objectMapper = objectMapper;
+        employeeStreamingController.flushEvery = 2;
+    }
+
+    @Test
+    void getAllEmployees_writesOneEmployeePerLineInBatches() throws IOException {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            employees.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 50000 + i, 30, "Engineer",
+                    "employee" + i + "@example.com"));
+        }
+        when(employeeServiceImpl.getAllEmployees()).thenReturn(employees);
+
+        ResponseEntity<StreamingResponseBody> response = employeeStreamingController.getAllEmployees();
+        FlushCountingOutputStream body = new FlushCountingOutputStream();
+        response.getBody().writeTo(body);
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(employees.get(i), objectMapper.readValue(lines[i], MockEmployee.class));
+        }
+        assertTrue(body.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertEquals(3, body.flushes);
+        assertFalse(body.closed);
+    }
+
+    @Test
+    void getEmployeesByNameSearch_emptyResultWritesNothing() throws IOException {
+        when(employeeServiceImpl.getEmployeesByNameSearch("nobody")).thenReturn(List.of());
+
+        FlushCountingOutputStream body = new FlushCountingOutputStream();
+        employeeStreamingController.getEmployeesByNameSearch("nobody").getBody().writeTo(body);
+
+        assertEquals(0, body.size());
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        int flushes;
+        boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.LastKnownGoodRoster;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StalenessHeadersTest {
+
+    private final StalenessHeaders stalenessHeaders = new StalenessHeaders();
+
+    @Test
+    void beforeBodyWrite_addsAgeAndVersionOfStaleRoster() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(LastKnownGoodRoster.STALENESS_ATTRIBUTE,
+                new LastKnownGoodRoster.Staleness(42, Duration.ofSeconds(95)));
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        Object body = stalenessHeaders.beforeBodyWrite(List.of(), null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), response);
+
+        assertEquals(List.of(), body);
+        assertEquals("95", response.getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals("42", response.getHeaders().getFirst(StalenessHeaders.ROSTER_VERSION));
+    }
+
+    @Test
+    void beforeBodyWrite_leavesFreshResponsesAlone() {
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        stalenessHeaders.beforeBodyWrite(List.of(), null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(new MockHttpServletRequest()),
+                response);
+
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.AGE));
+        assertFalse(response.getHeaders().containsKey(StalenessHeaders.ROSTER_VERSION));
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameSearchIndexTest {
+
+    private final NameSearchIndex index = new NameSearchIndex();
+
+    private final MockEmployee priya = employee("Priya Biswas");
+    private final MockEmployee vidya = employee("Vidya Sharma");
+    private final MockEmployee arya = employee("Arya Supriya");
+
+    @BeforeEach
+    void setUp() {
+        index.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(priya, vidya, arya)));
+    }
+
+    @Test
+    void search_caseSensitiveMatchesContains() {
+        assertEquals(List.of(priya), index.search("Priya", false));
+        assertEquals(List.of(arya), index.search("priya", false));
+        assertEquals(List.of(priya, vidya, arya), index.search("ya", false));
+        assertEquals(List.of(), index.search("David", false));
+    }
+
+    @Test
+    void search_ignoreCaseKeepsRosterOrder() {
+        assertEquals(List.of(priya, arya), index.search("PRIYA", true));
+        assertEquals(List.of(priya, vidya, arya), index.search("", true));
+    }
+
+    @Test
+    void search_followsIncrementalChanges() {
+        MockEmployee priyanka = employee("Priyanka Test");
+        RosterSnapshot snapshot = new RosterSnapshot(2, Instant.now(), List.of());
+
+        index.employeeAdded(priyanka, snapshot);
+        index.employeeRemoved(priya, snapshot);
+
+        assertEquals(List.of(priyanka), index.search("Priya", false));
+        assertEquals(List.of(arya, priyanka), index.search("priya", true));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_agreesWithLinearScanOnRandomRoster() {
+        Random random = new Random(7);
+        String alphabet = "abcdeABCDE ";
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0, length = 3 + random.nextInt(10); j < length; j++) {
+                name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            roster.add(employee(name.toString()));
+        }
+        index.rosterReloaded(new RosterSnapshot(3, Instant.now(), roster));
+        for (int i = 0; i < 1500; i++) {
+            MockEmployee removed = roster.remove(random.nextInt(roster.size()));
+            index.employeeRemoved(removed, null);
+        }
+
+        for (String query : List.of("a", "Ab", "abc", "aBcD", "e E", "dddd", "cab")) {
+            assertEquals(roster.stream().filter(e -> e.getName().contains(query)).collect(Collectors.toList()),
+                    index.search(query, false), query);
+            assertEquals(roster.stream()
+                            .filter(e -> e.getName().toLowerCase().contains(query.toLowerCase()))
+                            .collect(Collectors.toList()),
+                    index.search(query, true), query);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50000, 30, "Engineer", "someone@example.com");
+    }
+}
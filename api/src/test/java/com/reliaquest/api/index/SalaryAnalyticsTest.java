@@ -0,0 +1,74 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.SalaryStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryAnalyticsTest {
+
+    private final SalaryAnalytics analytics = new SalaryAnalytics(1000);
+
+    @Test
+    void statistics_percentilesAreWithinOneBucket() {
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            roster.add(employee(i * 100, 30, "Engineer"));
+        }
+        analytics.rosterReloaded(new RosterSnapshot(4, Instant.now(), roster));
+
+        SalaryStatistics statistics = analytics.statistics();
+
+        assertEquals(4, statistics.rosterVersion());
+        assertEquals(1000, statistics.count());
+        assertEquals(100, statistics.min());
+        assertEquals(100000, statistics.max());
+        assertEquals(50050.0, statistics.mean());
+        assertEquals(50000, statistics.p50(), 1000);
+        assertEquals(90000, statistics.p90(), 1000);
+        assertEquals(99000, statistics.p99(), 1000);
+    }
+
+    @Test
+    void statistics_followIncrementalChangesAndAreReusedPerVersion() {
+        MockEmployee junior = employee(40000, 22, "Analyst");
+        MockEmployee senior = employee(120000, 58, "Architect");
+        analytics.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(junior, senior)));
+        SalaryStatistics first = analytics.statistics();
+        assertSame(first, analytics.statistics());
+
+        MockEmployee retiree = employee(90000, 70, "Architect");
+        analytics.employeeAdded(retiree, new RosterSnapshot(2, Instant.now(), List.of()));
+        analytics.employeeRemoved(junior, new RosterSnapshot(3, Instant.now(), List.of()));
+        SalaryStatistics updated = analytics.statistics();
+
+        assertNotSame(first, updated);
+        assertEquals(3, updated.rosterVersion());
+        assertEquals(2, updated.count());
+        assertEquals(90000, updated.min());
+        assertEquals(List.of("Architect"), List.copyOf(updated.byTitle().keySet()));
+        assertEquals(List.of("55-64", "65+"), List.copyOf(updated.byAgeBand().keySet()));
+        assertEquals(105000.0, updated.byTitle().get("Architect").mean());
+    }
+
+    @Test
+    void ageBand_coversWholeRange() {
+        assertEquals("16-24", SalaryAnalytics.ageBand(16));
+        assertEquals("25-34", SalaryAnalytics.ageBand(25));
+        assertEquals("25-34", SalaryAnalytics.ageBand(34));
+        assertEquals("55-64", SalaryAnalytics.ageBand(64));
+        assertEquals("65+", SalaryAnalytics.ageBand(75));
+        assertEquals(SalaryAnalytics.UNKNOWN, SalaryAnalytics.ageBand(null));
+    }
+
+    private static MockEmployee employee(int salary, int age, String title) {
+        return new MockEmployee(UUID.randomUUID(), "Employee", salary, age, title, "someone@example.com");
+    }
+}
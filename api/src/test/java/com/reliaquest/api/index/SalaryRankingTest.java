@@ -0,0 +1,95 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.MockEmployee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryRankingTest {
+
+    private final SalaryRanking ranking = new SalaryRanking();
+
+    @Test
+    void ranking_followsIncrementalChanges() {
+        MockEmployee low = employee("Low", 40000);
+        MockEmployee high = employee("High", 90000);
+        ranking.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(low, high)));
+
+        MockEmployee higher = employee("Higher", 120000);
+        ranking.employeeAdded(higher, null);
+        assertEquals(Optional.of(120000), ranking.highestSalary());
+        assertEquals(List.of("Higher", "High"), ranking.topEarnerNames(2));
+
+        ranking.employeeRemoved(higher, null);
+        ranking.employeeRemoved(high, null);
+        assertEquals(Optional.of(40000), ranking.highestSalary());
+        assertEquals(List.of("Low"), ranking.topEarnerNames(10));
+
+        ranking.employeeRemoved(low, null);
+        assertEquals(Optional.empty(), ranking.highestSalary());
+        assertEquals(List.of(), ranking.topEarnerNames(10));
+    }
+
+    @Test
+    void ranking_countsEmployeesWithoutSalary() {
+        MockEmployee unpaid = employee("Unpaid", null);
+        ranking.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(unpaid, employee("Paid", 50000))));
+        assertEquals(1, ranking.unsalaried());
+
+        ranking.employeeRemoved(unpaid, null);
+        assertEquals(0, ranking.unsalaried());
+        assertEquals(List.of("Paid"), ranking.topEarnerNames(10));
+    }
+
+    @Test
+    void ranking_unsalariedCountDoesNotDriftOnEmployeesWithoutId() {
+        MockEmployee unpaid = MockEmployee.builder().name("Unpaid").build();
+        ranking.rosterReloaded(new RosterSnapshot(1, Instant.now(), List.of(unpaid)));
+        assertEquals(1, ranking.unsalaried());
+
+        ranking.employeeAdded(unpaid, null);
+        ranking.employeeRemoved(unpaid, null);
+        assertEquals(1, ranking.unsalaried());
+
+        ranking.rosterReloaded(new RosterSnapshot(2, Instant.now(), List.of(employee("Paid", 50000))));
+        assertEquals(0, ranking.unsalaried());
+    }
+
+    @Test
+    void ranking_agreesWithStableSortOnRandomRoster() {
+        Random random = new Random(11);
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee("Employee " + i, 30000 + random.nextInt(50) * 1000));
+        }
+        ranking.rebuild(roster);
+        for (int i = 0; i < 200; i++) {
+            MockEmployee removed = roster.remove(random.nextInt(roster.size()));
+            ranking.employeeRemoved(removed, null);
+            MockEmployee added = employee("Added " + i, 30000 + random.nextInt(50) * 1000);
+            roster.add(added);
+            ranking.employeeAdded(added, null);
+        }
+
+        List<String> expected = roster.stream()
+                .sorted(Comparator.comparingInt(MockEmployee::getSalary).reversed())
+                .limit(25)
+                .map(MockEmployee::getName)
+                .collect(Collectors.toList());
+        assertEquals(expected, ranking.topEarnerNames(25));
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Engineer", "someone@example.com");
+    }
+}
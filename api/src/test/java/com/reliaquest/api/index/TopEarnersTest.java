@@ -0,0 +1,72 @@
+package com.reliaquest.api.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.StreamingRosterReader;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopEarnersTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void topEarners_agreesWithSalaryRankingOnStreamedRoster() throws IOException {
+        Random random = new Random(12);
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee("Employee " + i, 30000 + random.nextInt(50) * 1000));
+        }
+        SalaryRanking ranking = new SalaryRanking();
+        ranking.rebuild(roster);
+
+        TopEarners topEarners = new TopEarners(25);
+        int visited = StreamingRosterReader.read(body(Response.handledWith(roster)), topEarners);
+
+        assertEquals(500, visited);
+        assertEquals(ranking.topEarnerNames(25), topEarners.names());
+        assertEquals(ranking.highestSalary(), topEarners.highestSalary());
+        assertEquals(0, topEarners.unsalaried());
+    }
+
+    @Test
+    void topEarners_countsEmployeesWithoutSalaryAndSkipsUnknownFields() throws IOException {
+        String json = "{\"status\":\"Successfully processed request.\",\"data\":["
+                + "{\"employee_name\":\"Unpaid\",\"employee_salary\":null,\"extra\":{\"nested\":[1,2]}},"
+                + "{\"id\":\"" + UUID.randomUUID() + "\",\"employee_name\":\"Paid\",\"employee_salary\":50000}]}";
+        TopEarners topEarners = new TopEarners(10);
+
+        StreamingRosterReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), topEarners);
+
+        assertEquals(1, topEarners.unsalaried());
+        assertEquals(List.of("Paid"), topEarners.names());
+        assertEquals(Optional.of(50000), topEarners.highestSalary());
+    }
+
+    @Test
+    void read_rejectsMalformedRoster() {
+        byte[] json = "[{\"employee_name\":\"Not a response\"}]".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class,
+                () -> StreamingRosterReader.read(new ByteArrayInputStream(json), new TopEarners(10)));
+    }
+
+    private ByteArrayInputStream body(Object response) throws IOException {
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(response));
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Engineer", "someone@example.com");
+    }
+}
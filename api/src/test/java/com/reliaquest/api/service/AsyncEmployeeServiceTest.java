@@ -0,0 +1,150 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncEmployeeServiceTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final AsyncEmployeeServiceImpl asyncEmployeeServiceImpl = new AsyncEmployeeServiceImpl(false, 4);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        asyncEmployeeServiceImpl.mockEmployeeGateway = new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry());
+        asyncEmployeeServiceImpl.nameSearchIndex = new NameSearchIndex();
+        asyncEmployeeServiceImpl.salaryRanking = new SalaryRanking();
+        asyncEmployeeServiceImpl.employeeIdIndex = new EmployeeIdIndex(1000, Duration.ofMinutes(5), Duration.ofSeconds(10),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        asyncEmployeeServiceImpl.employeeRosterCache = new EmployeeRosterCache(asyncEmployeeServiceImpl.mockEmployeeGateway,
+                Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(60), Clock.systemUTC(), Runnable::run,
+                List.of(asyncEmployeeServiceImpl.nameSearchIndex, asyncEmployeeServiceImpl.salaryRanking,
+                        asyncEmployeeServiceImpl.employeeIdIndex));
+        asyncEmployeeServiceImpl.retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .ignoreExceptions(NoDataToDisplayException.class)
+                .build());
+        asyncEmployeeServiceImpl.circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        asyncEmployeeServiceImpl.meterRegistry = meterRegistry;
+        asyncEmployeeServiceImpl.lastKnownGoodRoster = new LastKnownGoodRoster(
+                asyncEmployeeServiceImpl.employeeRosterCache, true, Duration.ofMinutes(10), meterRegistry,
+                Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncEmployeeServiceImpl.shutdown();
+    }
+
+    @Test
+    void testGetAllEmployees_Success() {
+        MockEmployee employee1 = new MockEmployee(UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        MockEmployee employee2 = new MockEmployee(UUID.randomUUID(), "Vidya Sharma", 72000, 41, "Architect", "vidya@example.com");
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee1, employee2)));
+
+        assertEquals(List.of(employee1, employee2), asyncEmployeeServiceImpl.getAllEmployees().join());
+        assertEquals(List.of("Vidya Sharma", "Priya Biswas"),
+                asyncEmployeeServiceImpl.getTopTenHighestEarningEmployeeNames().join());
+        assertEquals(72000, asyncEmployeeServiceImpl.getHighestSalaryOfEmployees().join());
+        verify(mockEmployeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void testGetEmployeeById_RetriesWithoutBlockingCaller() {
+        UUID id = UUID.randomUUID();
+        MockEmployee employee = new MockEmployee(id, "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        when(mockEmployeeClient.getEmployee(id))
+                .thenThrow(new RuntimeException("Connection reset"))
+                .thenThrow(new RuntimeException("Connection reset"))
+                .thenReturn(ResponseEntity.ok(Response.handledWith(employee)));
+
+        assertEquals(employee, asyncEmployeeServiceImpl.getEmployeeById(id.toString()).join());
+        verify(mockEmployeeClient, times(3)).getEmployee(id);
+    }
+
+    @Test
+    void testGetEmployeeById_NotFoundFallsBackAndIsCachedNegatively() {
+        UUID id = UUID.randomUUID();
+        when(mockEmployeeClient.getEmployee(id)).thenThrow(new NoDataToDisplayException("Resource not found"));
+
+        assertNull(asyncEmployeeServiceImpl.getEmployeeById(id.toString()).join().getId());
+        assertNull(asyncEmployeeServiceImpl.getEmployeeById(id.toString()).join().getId());
+        verify(mockEmployeeClient, times(1)).getEmployee(id);
+        assertEquals(2, meterRegistry.get("employee.fallbacks")
+                .tag("operation", "getEmployeeById")
+                .tag("exception", "NoDataToDisplayException")
+                .counter().count());
+    }
+
+    @Test
+    void testGetEmployeeById_OutageAnsweredFromLastKnownRoster() {
+        MockEmployee employee = new MockEmployee(UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        asyncEmployeeServiceImpl.getAllEmployees().join();
+        // an id the index no longer holds, so the lookup goes downstream
+        asyncEmployeeServiceImpl.employeeIdIndex = new EmployeeIdIndex(1000, Duration.ofMinutes(5), Duration.ofSeconds(10),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        when(mockEmployeeClient.getEmployee(employee.getId())).thenThrow(new RuntimeException("Connection refused"));
+
+        assertEquals(employee, asyncEmployeeServiceImpl.getEmployeeById(employee.getId().toString()).join());
+        assertEquals(1, meterRegistry.get("employee.degraded.responses")
+                .tag("operation", "getEmployeeById")
+                .counter().count());
+    }
+
+    @Test
+    void testDeleteEmployeeById_UsesKnownName() {
+        MockEmployee employee = new MockEmployee(UUID.randomUUID(), "Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        when(mockEmployeeClient.deleteEmployee(any(DeleteMockEmployeeInput.class))).thenReturn(Response.handledWith(true));
+        asyncEmployeeServiceImpl.getAllEmployees().join();
+
+        String result = asyncEmployeeServiceImpl.deleteEmployeeById(employee.getId().toString()).join();
+
+        assertEquals("Employee deleted successfully.", result);
+        verify(mockEmployeeClient).deleteEmployee(new DeleteMockEmployeeInput("Rajesh Verma"));
+        verify(mockEmployeeClient, never()).getEmployee(any());
+        assertEquals(List.of(), asyncEmployeeServiceImpl.getAllEmployees().join());
+    }
+
+    @Test
+    void testCreateEmployee_NullInputFallsBack() {
+        MockEmployee result = asyncEmployeeServiceImpl.createEmployee(null).join();
+
+        assertNull(result.getId());
+        verifyNoInteractions(mockEmployeeClient);
+    }
+}
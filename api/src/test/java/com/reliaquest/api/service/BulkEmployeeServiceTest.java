@@ -0,0 +1,164 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.FeignExecutionException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.CreateMockEmployeeInput;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkEmployeeServiceTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final BulkEmployeeServiceImpl bulkEmployeeServiceImpl =
+            new BulkEmployeeServiceImpl(false, 2, Duration.ofSeconds(5), Duration.ofMillis(10));
+
+    @BeforeEach
+    void setUp() {
+        bulkEmployeeServiceImpl.mockEmployeeGateway = new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry());
+        bulkEmployeeServiceImpl.employeeIdIndex = new EmployeeIdIndex(1000, Duration.ofMinutes(5), Duration.ofSeconds(10),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        bulkEmployeeServiceImpl.employeeRosterCache = new EmployeeRosterCache(bulkEmployeeServiceImpl.mockEmployeeGateway,
+                Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(60), Clock.systemUTC(), Runnable::run,
+                List.of(bulkEmployeeServiceImpl.employeeIdIndex));
+        bulkEmployeeServiceImpl.validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkEmployeeServiceImpl.shutdown();
+    }
+
+    @Test
+    void validate_reportsEveryInvalidItem() {
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>();
+        inputs.add(new CreateMockEmployeeInput("Priya Biswas", 60000, 30, "Software Engineer"));
+        inputs.add(new CreateMockEmployeeInput("", -1, 30, "Software Engineer"));
+        inputs.add(null);
+
+        List<BulkCreateResult> invalid = bulkEmployeeServiceImpl.validate(inputs);
+
+        assertEquals(List.of(
+                BulkCreateResult.invalid(1, "name must not be blank, salary must be greater than 0"),
+                BulkCreateResult.invalid(2, "Employee input is required")), invalid);
+    }
+
+    @Test
+    void createEmployees_boundsConcurrencyAndKeepsOrder() {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        when(mockEmployeeClient.createEmployee(any(CreateMockEmployeeInput.class))).thenAnswer(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            return Response.handledWith(employee(invocation.getArgument(0)));
+        });
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inputs.add(new CreateMockEmployeeInput("Employee " + i, 50000 + i, 30, "Engineer"));
+        }
+
+        List<BulkCreateResult> results = bulkEmployeeServiceImpl.createEmployees(inputs);
+
+        assertEquals(10, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).index());
+            assertEquals(BulkCreateResult.Status.CREATED, results.get(i).status());
+            assertEquals("Employee " + i, results.get(i).employee().getName());
+        }
+        assertTrue(maxConcurrent.get() <= 2, "at most 2 creates in flight but saw " + maxConcurrent.get());
+    }
+
+    @Test
+    void createEmployees_resendsThrottledItemsAndReportsFailures() {
+        CreateMockEmployeeInput throttled = new CreateMockEmployeeInput("Rajesh Verma", 61000, 35, "Project Manager");
+        CreateMockEmployeeInput rejected = new CreateMockEmployeeInput("Sanya Iyer", 64000, 27, "Software Developer");
+        when(mockEmployeeClient.createEmployee(throttled))
+                .thenThrow(new FeignExecutionException(429, "Too Many Requests"))
+                .thenReturn(Response.handledWith(employee(throttled)));
+        when(mockEmployeeClient.createEmployee(rejected)).thenThrow(new FeignExecutionException(400, "Bad Request"));
+
+        List<BulkCreateResult> results = bulkEmployeeServiceImpl.createEmployees(List.of(throttled, rejected));
+
+        assertEquals(BulkCreateResult.Status.CREATED, results.get(0).status());
+        assertEquals(BulkCreateResult.failed(1, "Bad Request"), results.get(1));
+        verify(mockEmployeeClient, times(2)).createEmployee(throttled);
+        verify(mockEmployeeClient, times(1)).createEmployee(rejected);
+    }
+
+    @Test
+    void deleteEmployees_resolvesNamesFromOneRosterFetch() {
+        MockEmployee employee1 = new MockEmployee(UUID.randomUUID(), "Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        MockEmployee employee2 = new MockEmployee(UUID.randomUUID(), "Sanya Iyer", 64000, 27, "Software Developer", "sanya.iyer@example.com");
+        String unknown = UUID.randomUUID().toString();
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee1, employee2)));
+        when(mockEmployeeClient.deleteEmployee(new DeleteMockEmployeeInput("Rajesh Verma"))).thenReturn(Response.handledWith(true));
+        when(mockEmployeeClient.deleteEmployee(new DeleteMockEmployeeInput("Sanya Iyer"))).thenReturn(Response.handledWith(false));
+
+        Map<String, BulkDeleteResult> outcomes = bulkEmployeeServiceImpl.deleteEmployees(List.of(
+                employee1.getId().toString(), employee2.getId().toString(), unknown, "not-a-uuid",
+                employee1.getId().toString()));
+
+        assertEquals(List.of(employee1.getId().toString(), employee2.getId().toString(), unknown, "not-a-uuid"),
+                List.copyOf(outcomes.keySet()));
+        assertEquals(BulkDeleteResult.DELETED, outcomes.get(employee1.getId().toString()));
+        assertEquals(BulkDeleteResult.NOT_FOUND, outcomes.get(employee2.getId().toString()));
+        assertEquals(BulkDeleteResult.NOT_FOUND, outcomes.get(unknown));
+        assertEquals(BulkDeleteResult.INVALID_ID, outcomes.get("not-a-uuid"));
+        verify(mockEmployeeClient, times(1)).getEmployees();
+        verify(mockEmployeeClient, times(2)).deleteEmployee(any(DeleteMockEmployeeInput.class));
+        verify(mockEmployeeClient, never()).getEmployee(any());
+        assertEquals(List.of(employee2), bulkEmployeeServiceImpl.employeeRosterCache.get().employees());
+    }
+
+    @Test
+    void deleteEmployees_idKnownOnlyToIdIndexIsNotFound() {
+        MockEmployee removed = new MockEmployee(UUID.randomUUID(), "Anil Kumar", 64000, 40, "Senior Architect", "anil.kumar@example.com");
+        MockEmployee namesake = new MockEmployee(UUID.randomUUID(), "Anil Kumar", 58000, 31, "Analyst", "akumar@example.com");
+        bulkEmployeeServiceImpl.employeeIdIndex.put(removed);
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(namesake)));
+
+        Map<String, BulkDeleteResult> outcomes = bulkEmployeeServiceImpl.deleteEmployees(List.of(removed.getId().toString()));
+
+        assertEquals(Map.of(removed.getId().toString(), BulkDeleteResult.NOT_FOUND), outcomes);
+        verify(mockEmployeeClient, times(1)).getEmployees();
+        verify(mockEmployeeClient, never()).deleteEmployee(any(DeleteMockEmployeeInput.class));
+    }
+
+    private static MockEmployee employee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(input.getName().replace(' ', '.') + "@example.com", input).toBuilder()
+                .id(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fallbacks wired through the resilience4j annotations of the Spring-managed service.
+ */
+@SpringBootTest
+public class EmployeeServiceFallbackTest {
+
+    @Autowired
+    EmployeeServiceImpl employeeServiceImpl;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void createEmployee_invalidInputFallsBackAndIsCounted() {
+        double before = createFallbacks();
+
+        assertNull(employeeServiceImpl.createEmployee(null).getId());
+        assertEquals(before + 1, createFallbacks());
+    }
+
+    private double createFallbacks() {
+        Counter counter = meterRegistry.find("employee.fallbacks")
+                .tag("operation", "createEmployee")
+                .tag("exception", "IllegalArgumentException")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -1,14 +1,24 @@
 package com.reliaquest.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeIdIndex;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.client.RequestPriority;
 import com.reliaquest.api.config.MockEmployeeClient;
 import com.reliaquest.api.exception.EmployeeServiceExecutionException;
 import com.reliaquest.api.exception.InternalServerException;
 import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryAnalytics;
+import com.reliaquest.api.index.SalaryRanking;
 import com.reliaquest.api.model.CreateMockEmployeeInput;
 import com.reliaquest.api.model.DeleteMockEmployeeInput;
 import com.reliaquest.api.model.MockEmployee;
 import com.reliaquest.api.model.Response;
+import com.reliaquest.api.model.SalaryStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,6 +27,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +52,23 @@ public class EmployeeServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        employeeServiceImpl.mockEmployeeGateway = new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry());
+        employeeServiceImpl.nameSearchIndex = new NameSearchIndex();
+        employeeServiceImpl.salaryRanking = new SalaryRanking();
+        employeeServiceImpl.salaryAnalytics = new SalaryAnalytics(1000);
+        employeeServiceImpl.meterRegistry = new SimpleMeterRegistry();
+        employeeServiceImpl.employeeIdIndex = new EmployeeIdIndex(1000, Duration.ofMinutes(5), Duration.ofSeconds(10),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        employeeServiceImpl.employeeRosterCache = new EmployeeRosterCache(employeeServiceImpl.mockEmployeeGateway,
+                Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(60), Clock.systemUTC(), Runnable::run,
+                List.of(employeeServiceImpl.nameSearchIndex, employeeServiceImpl.salaryRanking,
+                        employeeServiceImpl.salaryAnalytics, employeeServiceImpl.employeeIdIndex));
+        employeeServiceImpl.lastKnownGoodRoster = new LastKnownGoodRoster(employeeServiceImpl.employeeRosterCache,
+                true, Duration.ofMinutes(10), new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
     @Test
     void testGetAllEmployees_success() {
         MockEmployee employee1 = new MockEmployee(
@@ -118,6 +148,26 @@ public class EmployeeServiceTest {
         assertEquals("No Employee found whose name contains  'David'", exception.getMessage());
     }
 
+    @Test
+    void testGetEmployeesByNameSearch_IgnoreCase() {
+        MockEmployee employee1 = new MockEmployee(
+                UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        MockEmployee employee2 = new MockEmployee(
+                UUID.randomUUID(), "Vidya Sharma", 65000, 28, "Data Scientist", "vidyasharma@example.com");
+        MockEmployee employee3 = new MockEmployee(
+                UUID.randomUUID(), "Arya Supriya", 70000, 33, "Analyst", "arya@example.com");
+
+        List<MockEmployee> mockEmployeeList = Arrays.asList(employee1, employee2, employee3);
+        Response<List<MockEmployee>> mockResponse = new Response<>(mockEmployeeList, Response.Status.HANDLED, null);
+        when(mockEmployeeClient.getEmployees()).thenReturn(mockResponse);
+
+        List<MockEmployee> result = employeeServiceImpl.getEmployeesByNameSearch("PRIYA", true);
+
+        assertEquals(Arrays.asList(employee1, employee3), result);
+        assertThrows(NoDataToDisplayException.class, () -> employeeServiceImpl.getEmployeesByNameSearch("PRIYA"));
+        verify(mockEmployeeClient, times(1)).getEmployees();
+    }
+
     @Test
     void testGetEmployeesByNameSearch_InternalServerException() {
         when(mockEmployeeClient.getEmployees()).thenThrow(new InternalServerException("API Failure"));
@@ -174,6 +224,35 @@ public class EmployeeServiceTest {
         assertEquals("No employee with given id Exists", exception.getMessage());
     }
 
+    @Test
+    void testGetEmployeeById_ServedFromRosterWithoutDownstreamCall() {
+        MockEmployee employee1 = new MockEmployee(
+                UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        Response<List<MockEmployee>> mockResponse = new Response<>(List.of(employee1), Response.Status.HANDLED, null);
+        when(mockEmployeeClient.getEmployees()).thenReturn(mockResponse);
+
+        employeeServiceImpl.getAllEmployees();
+        MockEmployee result = employeeServiceImpl.getEmployeeById(employee1.getId().toString());
+
+        assertSame(employee1, result);
+        verify(mockEmployeeClient, never()).getEmployee(any());
+    }
+
+    @Test
+    void testGetEmployeeById_NotFoundIsCachedNegatively() {
+        UUID mockUuid = UUID.randomUUID();
+        when(mockEmployeeClient.getEmployee(mockUuid)).thenThrow(new NoDataToDisplayException("Resource not found"));
+
+        assertThrows(NoDataToDisplayException.class, () -> employeeServiceImpl.getEmployeeById(mockUuid.toString()));
+        NoDataToDisplayException exception = assertThrows(
+                NoDataToDisplayException.class,
+                () -> employeeServiceImpl.getEmployeeById(mockUuid.toString())
+        );
+
+        assertEquals("No employee with given id Exists", exception.getMessage());
+        verify(mockEmployeeClient, times(1)).getEmployee(mockUuid);
+    }
+
     @Test
     void testGetEmployeeById_ApiFailure() {
         UUID mockUuid = UUID.randomUUID();
@@ -187,6 +266,22 @@ public class EmployeeServiceTest {
         assertEquals("API Failure", exception.getMessage());
     }
 
+    @Test
+    void testFallbacks_AnswerFromLastKnownRosterButKeepNotFound() {
+        MockEmployee employee = new MockEmployee(
+                UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        employeeServiceImpl.getAllEmployees();
+        RuntimeException outage = new RuntimeException("Connection refused");
+
+        assertEquals(List.of(employee), employeeServiceImpl.getAllEmployeesFallback(outage));
+        assertEquals(employee, employeeServiceImpl.getEmployeeByIdFallback(employee.getId().toString(), outage));
+        assertEquals(60000, employeeServiceImpl.getHighestSalaryOfEmployeesFallback(outage));
+        assertEquals(List.of("Priya Biswas"), employeeServiceImpl.getTopTenHighestEarningEmployeeNamesFallback(outage));
+        assertNull(employeeServiceImpl.getEmployeeByIdFallback(employee.getId().toString(),
+                new NoDataToDisplayException("No employee with given id Exists")).getId());
+    }
+
     @Test
     void testGetEmployeeById_InvalidUUIDFormat() {
         assertThrows(
@@ -318,6 +413,57 @@ public class EmployeeServiceTest {
         assertEquals(5, topEmployees.size());
     }
 
+    @Test
+    void testGetTopHighestEarningEmployeeNames_CustomLimitAndTies() {
+        MockEmployee employee1 = new MockEmployee(
+                UUID.randomUUID(), "Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        MockEmployee employee2 = new MockEmployee(
+                UUID.randomUUID(), "Sanya Iyer", 64000, 27, "Software Developer", "sanya.iyer@example.com");
+        MockEmployee employee3 = new MockEmployee(
+                UUID.randomUUID(), "Anil Kumar", 64000, 40, "Senior Architect", "anil.kumar@example.com");
+        MockEmployee employee4 = new MockEmployee(
+                UUID.randomUUID(), "Neha Agarwal", 66000, 32, "UX Designer", "neha.agarwal@example.com");
+
+        List<MockEmployee> employeeList = Arrays.asList(employee1, employee2, employee3, employee4);
+        Response<List<MockEmployee>> mockResponse = new Response<>(employeeList, Response.Status.HANDLED, null);
+        when(mockEmployeeClient.getEmployees()).thenReturn(mockResponse);
+
+        List<String> topEmployees = employeeServiceImpl.getTopHighestEarningEmployeeNames(3);
+
+        assertEquals(Arrays.asList("Neha Agarwal", "Sanya Iyer", "Anil Kumar"), topEmployees);
+        assertThrows(IllegalArgumentException.class, () -> employeeServiceImpl.getTopHighestEarningEmployeeNames(0));
+    }
+
+    @Test
+    void testGetTopHighestEarningEmployeeNames_StreamingDecode() throws Exception {
+        employeeServiceImpl.streamingAggregates = true;
+        MockEmployee employee1 = new MockEmployee(
+                UUID.randomUUID(), "Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        MockEmployee employee2 = new MockEmployee(
+                UUID.randomUUID(), "Sanya Iyer", 64000, 27, "Software Developer", "sanya.iyer@example.com");
+        MockEmployee employee3 = new MockEmployee(
+                UUID.randomUUID(), "Anil Kumar", 64000, 40, "Senior Architect", "anil.kumar@example.com");
+        byte[] body = new ObjectMapper().writeValueAsBytes(Response.handledWith(List.of(employee1, employee2, employee3)));
+        when(mockEmployeeClient.getEmployeesRaw()).thenAnswer(invocation -> rawResponse(200, body));
+
+        assertEquals(Arrays.asList("Sanya Iyer", "Anil Kumar"), employeeServiceImpl.getTopHighestEarningEmployeeNames(2));
+        assertEquals(64000, employeeServiceImpl.getHighestSalaryOfEmployees());
+        verify(mockEmployeeClient, never()).getEmployees();
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_StreamingDecodeThrottled() {
+        employeeServiceImpl.streamingAggregates = true;
+        when(mockEmployeeClient.getEmployeesRaw()).thenReturn(rawResponse(429, new byte[0]));
+
+        EmployeeServiceExecutionException exception = assertThrows(
+                EmployeeServiceExecutionException.class,
+                () -> employeeServiceImpl.getHighestSalaryOfEmployees()
+        );
+
+        assertEquals("Too Many Requests", exception.getMessage());
+    }
+
     @Test
     void testGetTopTenHighestEarningEmployeeNames_EmptyList() {
         Response<List<MockEmployee>> mockResponse = new Response<>(Collections.emptyList(), Response.Status.HANDLED, null);
@@ -343,6 +489,38 @@ public class EmployeeServiceTest {
         assertEquals("API Failure", exception.getMessage());
     }
 
+    @Test
+    void testGetSalaryStatistics_Success() {
+        MockEmployee employee1 = new MockEmployee(
+                UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+        MockEmployee employee2 = new MockEmployee(
+                UUID.randomUUID(), "Vidya Sharma", 65000, 28, "Data Scientist", "vidyasharma@example.com");
+        MockEmployee employee3 = new MockEmployee(
+                UUID.randomUUID(), "Amruta Patil", 68000, 45, "Software Engineer", "amruta@example.com");
+
+        List<MockEmployee> employeeList = Arrays.asList(employee1, employee2, employee3);
+        Response<List<MockEmployee>> mockResponse = new Response<>(employeeList, Response.Status.HANDLED, null);
+        when(mockEmployeeClient.getEmployees()).thenReturn(mockResponse);
+
+        SalaryStatistics statistics = employeeServiceImpl.getSalaryStatistics();
+
+        assertEquals(3, statistics.count());
+        assertEquals(60000, statistics.min());
+        assertEquals(68000, statistics.max());
+        assertEquals(2, statistics.byTitle().get("Software Engineer").count());
+        assertEquals(2, statistics.byAgeBand().get("25-34").count());
+        assertSame(statistics, employeeServiceImpl.getSalaryStatistics());
+        verify(mockEmployeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void testGetSalaryStatistics_EmptyList() {
+        Response<List<MockEmployee>> mockResponse = new Response<>(Collections.emptyList(), Response.Status.HANDLED, null);
+        when(mockEmployeeClient.getEmployees()).thenReturn(mockResponse);
+
+        assertThrows(NoDataToDisplayException.class, () -> employeeServiceImpl.getSalaryStatistics());
+    }
+
     @Test
     void createEmployee_Success() {
         CreateMockEmployeeInput input = new CreateMockEmployeeInput("Shirish Bhole", 30000, 30, "Software Engineer");
@@ -409,6 +587,42 @@ public class EmployeeServiceTest {
         verify(mockEmployeeClient, times(1)).deleteEmployee(any(DeleteMockEmployeeInput.class));
     }
 
+    @Test
+    void deleteEmployeeById_NameKnownFromRoster_SkipsLookup() {
+        MockEmployee mockEmployee = new MockEmployee(UUID.randomUUID(),"Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        when(mockEmployeeClient.getEmployees()).thenReturn(new Response<>(List.of(mockEmployee), Response.Status.HANDLED, null));
+        employeeServiceImpl.getAllEmployees();
+        EmployeeServiceImpl employeeServiceImplSpy = spy(employeeServiceImpl);
+
+        when(mockEmployeeClient.deleteEmployee(any(DeleteMockEmployeeInput.class)))
+                .thenReturn(new Response<>(true, Response.Status.HANDLED, null));
+
+        String result = employeeServiceImplSpy.deleteEmployeeById(mockEmployee.getId().toString());
+
+        assertEquals("Employee deleted successfully.", result);
+        verify(employeeServiceImplSpy, never()).getEmployeeById(any());
+        verify(mockEmployeeClient).deleteEmployee(new DeleteMockEmployeeInput("Rajesh Verma"));
+        assertThrows(NoDataToDisplayException.class,
+                () -> employeeServiceImpl.getEmployeeById(mockEmployee.getId().toString()));
+        verify(mockEmployeeClient, never()).getEmployee(any());
+    }
+
+    @Test
+    void deleteEmployeeById_IdGoneFromReloadedRoster_IsNotDeletedByName() {
+        MockEmployee removed = new MockEmployee(UUID.randomUUID(),"Rajesh Verma", 61000, 35, "Project Manager", "rajesh.verma@example.com");
+        MockEmployee namesake = new MockEmployee(UUID.randomUUID(),"Rajesh Verma", 52000, 29, "Analyst", "rverma@example.com");
+        when(mockEmployeeClient.getEmployees())
+                .thenReturn(Response.handledWith(List.of(removed)))
+                .thenReturn(Response.handledWith(List.of(namesake)));
+        employeeServiceImpl.getAllEmployees();
+        employeeServiceImpl.employeeRosterCache.refresh(RequestPriority.USER);
+        when(mockEmployeeClient.getEmployee(removed.getId())).thenReturn(new ResponseEntity<>(null, HttpStatus.NOT_FOUND));
+
+        assertThrows(NoDataToDisplayException.class,
+                () -> employeeServiceImpl.deleteEmployeeById(removed.getId().toString()));
+        verify(mockEmployeeClient, never()).deleteEmployee(any(DeleteMockEmployeeInput.class));
+    }
+
     @Test
     void deleteEmployeeById_NoEmployeeFound_ThrowsException() {
 
@@ -435,13 +649,14 @@ public class EmployeeServiceTest {
         );
         assertEquals("API Error", exception.getMessage());
     }
-}
-
-
-
-
-
-
-
-
 
+    private static feign.Response rawResponse(int status, byte[] body) {
+        return feign.Response.builder()
+                .status(status)
+                .request(feign.Request.create(feign.Request.HttpMethod.GET, "/api/v1/employee",
+                        Collections.emptyMap(), null, StandardCharsets.UTF_8, null))
+                .headers(Collections.emptyMap())
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.MockEmployeeGateway;
+import com.reliaquest.api.config.MockEmployeeClient;
+import com.reliaquest.api.exception.NoDataToDisplayException;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LastKnownGoodRosterTest {
+
+    @Mock
+    MockEmployeeClient mockEmployeeClient;
+
+    private final MutableClock clock = new MutableClock();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockEmployee employee = new MockEmployee(
+            UUID.randomUUID(), "Priya Biswas", 60000, 30, "Software Engineer", "priyab@example.com");
+
+    private EmployeeRosterCache cache;
+
+    private LastKnownGoodRoster lastKnownGoodRoster;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(new MockEmployeeGateway(mockEmployeeClient, new SimpleMeterRegistry()),
+                Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(60), clock, Runnable::run, List.of());
+        lastKnownGoodRoster = new LastKnownGoodRoster(cache, true, Duration.ofMinutes(10), meterRegistry, clock);
+    }
+
+    @Test
+    void answer_servesLastLoadedRosterAndMarksRequestStale() {
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        RosterSnapshot loaded = cache.get();
+        clock.advance(Duration.ofMinutes(2));
+
+        Optional<List<MockEmployee>> answer = lastKnownGoodRoster.answer("getAllEmployees",
+                new RuntimeException("Connection refused"), new ServletRequestAttributes(request),
+                RosterSnapshot::employees);
+
+        assertEquals(Optional.of(List.of(employee)), answer);
+        assertEquals(new LastKnownGoodRoster.Staleness(loaded.version(), Duration.ofMinutes(2)),
+                request.getAttribute(LastKnownGoodRoster.STALENESS_ATTRIBUTE));
+        assertEquals(1, meterRegistry.get("employee.degraded.responses")
+                .tag("operation", "getAllEmployees")
+                .counter().count());
+    }
+
+    @Test
+    void answer_doesNotMaskNotFound() {
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        cache.get();
+
+        Optional<List<MockEmployee>> answer = lastKnownGoodRoster.answer("getEmployeeById",
+                new NoDataToDisplayException("No employee with given id Exists"), new ServletRequestAttributes(request),
+                RosterSnapshot::employees);
+
+        assertTrue(answer.isEmpty());
+        assertNull(request.getAttribute(LastKnownGoodRoster.STALENESS_ATTRIBUTE));
+    }
+
+    @Test
+    void answer_rosterOlderThanMaxStalenessIsNotServed() {
+        when(mockEmployeeClient.getEmployees()).thenReturn(Response.handledWith(List.of(employee)));
+        cache.get();
+        clock.advance(Duration.ofMinutes(10));
+
+        Optional<List<MockEmployee>> answer = lastKnownGoodRoster.answer("getAllEmployees",
+                new RuntimeException("Connection refused"), new ServletRequestAttributes(request),
+                RosterSnapshot::employees);
+
+        assertTrue(answer.isEmpty());
+        assertNull(request.getAttribute(LastKnownGoodRoster.STALENESS_ATTRIBUTE));
+    }
+}
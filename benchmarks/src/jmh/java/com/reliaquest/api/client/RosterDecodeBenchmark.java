@@ -0,0 +1,74 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.index.TopEarners;
+import com.reliaquest.api.model.MockEmployee;
+import com.reliaquest.api.model.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top ten earners from a roster response body: decoded into {@link MockEmployee}s and ranked, versus streamed
+ * through {@link TopEarners}. Compare {@code gc.alloc.rate.norm} under {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterDecodeBenchmark {
+
+    private static final TypeReference<Response<List<MockEmployee>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"100", "10000", "1000000"})
+    public int employees;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringJoiner data = new StringJoiner(",", "{\"data\":[", "],\"status\":\"Successfully processed request.\"}");
+        for (int i = 0; i < employees; i++) {
+            data.add("{\"id\":\"" + UUID.randomUUID() + "\",\"employee_name\":\"Employee " + i
+                    + "\",\"employee_salary\":" + (30000 + (i * 7919) % 100000) + ",\"employee_age\":30,"
+                    + "\"employee_title\":\"Engineer\",\"employee_email\":\"employee" + i + "@company.com\"}");
+        }
+        body = data.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<String> materialized() throws IOException {
+        Response<List<MockEmployee>> response = objectMapper.readValue(new ByteArrayInputStream(body), ROSTER);
+        SalaryRanking ranking = new SalaryRanking();
+        ranking.rebuild(response.data());
+        return ranking.topEarnerNames(10);
+    }
+
+    @Benchmark
+    public List<String> streamed() throws IOException {
+        TopEarners topEarners = new TopEarners(10);
+        StreamingRosterReader.read(new ByteArrayInputStream(body), topEarners);
+        return topEarners.names();
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.config;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trips of a roster-sized JSON response through each Feign transport against a local HTTP server, so the
+ * numbers reflect connection handling rather than the mock server's rate limiter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    @Param({"default", "hc5", "http2client"})
+    public String transport;
+
+    @Param({"50", "1000"})
+    public int employees;
+
+    private HttpServer server;
+    private CloseableHttpClient apacheClient;
+    private Client client;
+    private Request request;
+    private Request.Options options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] roster = roster(employees);
+        // without TCP_NODELAY the JDK server's separate header and body writes hit delayed ACKs (~40ms per call)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.createContext("/api/v1/employee", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, roster.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(roster);
+            }
+        });
+        server.start();
+
+        client = switch (transport) {
+            case "default" -> new Client.Default(null, null);
+            case "hc5" -> {
+                PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(50)
+                        .build();
+                apacheClient = HttpClients.custom().setConnectionManager(pool).build();
+                yield new ApacheHttp5Client(apacheClient);
+            }
+            case "http2client" -> new Http2Client(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofSeconds(2))
+                    .build());
+            default -> throw new IllegalArgumentException(transport);};
+        request = Request.create(
+                Request.HttpMethod.GET,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/employee",
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                null);
+        options = new Request.Options(2, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (apacheClient != null) {
+            apacheClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int getEmployees() throws IOException {
+        try (Response response = client.execute(request, options)) {
+            return Util.toByteArray(response.body().asInputStream()).length;
+        }
+    }
+
+    private static byte[] roster(int size) {
+        StringJoiner data = new StringJoiner(",", "{\"data\":[", "],\"status\":\"Successfully processed request.\"}");
+        for (int i = 0; i < size; i++) {
+            data.add("{\"id\":\"" + UUID.randomUUID() + "\",\"employee_name\":\"Employee " + i
+                    + "\",\"employee_salary\":" + (30000 + i) + ",\"employee_age\":30,"
+                    + "\"employee_title\":\"Engineer\",\"employee_email\":\"employee" + i + "@company.com\"}");
+        }
+        return data.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the trigram {@link NameSearchIndex} with the {@code String.contains} stream scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final String[] FIRST = {
+        "Priya", "Vidya", "Rajesh", "Sanya", "Anil", "Neha", "Vikram", "Pooja", "Rohan", "Sneha", "Tarun", "Swati",
+        "Arjun", "Maria", "John", "Chen", "Fatima", "Olga", "Kwame", "Lucia"
+    };
+    private static final String[] LAST = {
+        "Biswas",
+        "Sharma",
+        "Verma",
+        "Iyer",
+        "Kumar",
+        "Agarwal",
+        "Singh",
+        "Nair",
+        "Joshi",
+        "Kulkarni",
+        "Mehta",
+        "Choudhary",
+        "Deshmukh",
+        "Garcia",
+        "Smith",
+        "Wang",
+        "Khan",
+        "Ivanova"
+    };
+
+    @Param({"100", "10000", "100000", "1000000"})
+    public int employees;
+
+    @Param({"Kulkarni", "ya Sh", "an"})
+    public String query;
+
+    private List<MockEmployee> roster;
+    private NameSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)] + " "
+                    + Integer.toString(random.nextInt(1 << 20), 36);
+            roster.add(new MockEmployee(
+                    UUID.randomUUID(),
+                    name,
+                    30000 + random.nextInt(470000),
+                    30,
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        index = new NameSearchIndex();
+        index.rebuild(roster);
+    }
+
+    @Benchmark
+    public List<MockEmployee> streamScan() {
+        return roster.stream()
+                .filter(employee -> employee.getName().contains(query))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<MockEmployee> trigramIndex() {
+        return index.search(query, false);
+    }
+
+    @Benchmark
+    public List<MockEmployee> trigramIndexIgnoreCase() {
+        return index.search(query, true);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A roster response through Jackson and both {@code MockEmployee}s' {@code PrefixNamingStrategy}: the server
+ * serializing its roster, and the api decoding that body into its own model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeJsonBenchmark {
+
+    private static final TypeReference<com.reliaquest.api.model.Response<List<com.reliaquest.api.model.MockEmployee>>>
+            API_ROSTER = new TypeReference<>() {};
+
+    @Param({"100", "10000", "1000000"})
+    public int employees;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Response<List<MockEmployee>> roster;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<MockEmployee> mockEmployees = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            mockEmployees.add(new MockEmployee(
+                    UUID.randomUUID(),
+                    "Employee " + i,
+                    30000 + (i * 7919) % 100000,
+                    30,
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        roster = Response.handledWith(mockEmployees);
+        body = objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public com.reliaquest.api.model.Response<List<com.reliaquest.api.model.MockEmployee>> deserialize()
+            throws IOException {
+        return objectMapper.readValue(body, API_ROSTER);
+    }
+}
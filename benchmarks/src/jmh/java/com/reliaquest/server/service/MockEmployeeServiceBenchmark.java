@@ -0,0 +1,83 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in {@link MockEmployeeService}: {@code findById} and {@code delete} scan the roster list, {@code page}
+ * seeks the id-ordered map. The delete names nobody on the roster, so each call scans every employee and leaves the
+ * roster as it was.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int employees;
+
+    private MockEmployeeService service;
+    private UUID[] ids;
+    private DeleteMockEmployeeInput nobody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<MockEmployee> roster = new ArrayList<>(employees);
+        ids = new UUID[employees];
+        for (int i = 0; i < employees; i++) {
+            ids[i] = UUID.randomUUID();
+            roster.add(new MockEmployee(
+                    ids[i],
+                    "Employee " + i,
+                    30000 + (i * 7919) % 100000,
+                    30,
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        service = new MockEmployeeService(new Faker(), roster, 1000);
+        nobody = new DeleteMockEmployeeInput();
+        nobody.setName("Nobody On The Roster");
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(randomId());
+    }
+
+    @Benchmark
+    public boolean deleteMissing() {
+        return service.delete(nobody);
+    }
+
+    @Benchmark
+    public MockEmployeePage page() {
+        return service.page(randomId(), 100);
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
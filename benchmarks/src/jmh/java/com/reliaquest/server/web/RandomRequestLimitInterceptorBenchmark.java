@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * {@link RandomRequestLimitInterceptor#preHandle} from 1, 4 and 16 threads sharing one interceptor, as Tomcat's
+ * workers do. The random limit is reached within the first ten calls and the backoff outlasts a fork, so this is the
+ * throttled path every request takes once the server starts answering 429.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomRequestLimitInterceptorBenchmark {
+
+    private final RandomRequestLimitInterceptor interceptor = new RandomRequestLimitInterceptor();
+
+    @State(Scope.Thread)
+    public static class Exchange {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean oneThread(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean fourThreads(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean sixteenThreads(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: request {@code i} is due at {@code start + i / rate} whether or not earlier requests have
+ * answered, and each runs on its own virtual thread. Latency is measured from the due time rather than the send
+ * time, so a stalled api (or a late scheduler) shows up in the percentiles instead of quietly lowering the offered
+ * load, which is the coordinated omission a closed loop of waiting clients suffers from.
+ */
+final class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Workload workload;
+
+    LoadGenerator(LoadTestConfig config, HttpClient client, Workload workload) {
+        this.config = config;
+        this.client = client;
+        this.workload = workload;
+    }
+
+    /**
+     * Offers load for the warm-up and then the measured duration, waits for every request to finish and returns the
+     * measurements of the requests due after the warm-up.
+     */
+    LoadReport run() {
+        LoadReport report = new LoadReport(config);
+        double nanosPerRequest = 1_000_000_000d / config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmUp().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + (long) (i * nanosPerRequest);
+                if (due - end >= 0) {
+                    break;
+                }
+                parkUntil(due);
+                Operation operation = config.mix().next();
+                LoadReport measured = due - measureFrom >= 0 ? report : null;
+                requests.execute(() -> call(operation, due, measured));
+            }
+        }
+        report.finished(System.nanoTime() - measureFrom);
+        return report;
+    }
+
+    private void call(Operation operation, long due, LoadReport report) {
+        String outcome;
+        try {
+            HttpRequest request = workload.request(operation);
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            workload.completed(operation, response);
+            outcome = Integer.toString(response.statusCode());
+        } catch (HttpTimeoutException e) {
+            outcome = LoadReport.TIMEOUT;
+        } catch (IOException e) {
+            outcome = LoadReport.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (report != null) {
+            report.record(operation, System.nanoTime() - due, outcome);
+        }
+    }
+
+    private static void parkUntil(long due) {
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms (microseconds) and outcome counts per operation, plus the api's own downstream and fallback
+ * counters, written as a text report: a summary table followed by each operation's percentile distribution.
+ */
+final class LoadReport {
+
+    static final String TIMEOUT = "TIMEOUT";
+    static final String IO_ERROR = "IO_ERROR";
+
+    private static final Pattern SAMPLE = Pattern.compile("^(\\w+)\\{([^}]*)}\\s+(\\S+)$");
+
+    private final LoadTestConfig config;
+    private final Map<Operation, ConcurrentHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, ConcurrentMap<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+    private final Map<String, Double> downstreamByStatus = new TreeMap<>();
+    private final Map<String, Double> fallbacksByOperation = new TreeMap<>();
+    private long elapsedNanos;
+
+    LoadReport(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, String outcome) {
+        latencies.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        outcomes.get(operation)
+                .computeIfAbsent(outcome, ignored -> new LongAdder())
+                .increment();
+    }
+
+    void finished(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Takes the api's {@code employee.downstream.requests} counts by status and {@code employee.fallbacks} by
+     * operation from its Prometheus scrape. They count from the api's start, warm-up included.
+     */
+    void downstream(String prometheusScrape) {
+        for (String line : prometheusScrape.split("\n")) {
+            Matcher sample = SAMPLE.matcher(line.trim());
+            if (!sample.matches()) {
+                continue;
+            }
+            if (sample.group(1).equals("employee_downstream_requests_seconds_count")) {
+                downstreamByStatus.merge(
+                        tag(sample.group(2), "status"), Double.parseDouble(sample.group(3)), Double::sum);
+            } else if (sample.group(1).equals("employee_fallbacks_total")) {
+                fallbacksByOperation.merge(
+                        tag(sample.group(2), "operation"), Double.parseDouble(sample.group(3)), Double::sum);
+            }
+        }
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            write(out, true);
+        }
+    }
+
+    void write(PrintStream out, boolean distributions) {
+        double seconds = Math.max(1, elapsedNanos) / 1e9;
+        out.printf("Load test finished %s%n", Instant.now());
+        out.printf(
+                "Offered %.1f requests/s to %s for %s after a %s warm-up; timeout %s%n",
+                config.rate(),
+                config.basePath(),
+                pretty(config.duration()),
+                pretty(config.warmUp()),
+                pretty(config.timeout()));
+        out.printf("Mix %s%n", config.mix());
+        out.printf("Server args %s, api args %s%n%n", config.serverArgs(), config.apiArgs());
+
+        out.printf(
+                "%-38s %8s %9s %9s %9s %9s %9s %7s  %s%n",
+                "operation", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "outcomes");
+        Histogram total = new Histogram(3);
+        Map<String, Long> totalOutcomes = new TreeMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram latency = latencies.get(operation);
+            Map<String, Long> counts = counts(outcomes.get(operation));
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(latency);
+            counts.forEach((outcome, count) -> totalOutcomes.merge(outcome, count, Long::sum));
+            row(out, operation.controllerMethod, latency, counts, seconds);
+        }
+        row(out, "total", total, totalOutcomes, seconds);
+
+        out.printf("%nApi downstream calls by status: %s%n", downstreamByStatus);
+        out.printf("Api fallbacks by operation: %s%n", fallbacksByOperation);
+
+        if (distributions) {
+            for (Operation operation : Operation.values()) {
+                Histogram latency = latencies.get(operation);
+                if (latency.getTotalCount() > 0) {
+                    out.printf("%n%s latency (ms)%n", operation.controllerMethod);
+                    latency.outputPercentileDistribution(out, 5, 1000.0);
+                }
+            }
+        }
+    }
+
+    private static void row(PrintStream out, String name, Histogram latency, Map<String, Long> counts, double seconds) {
+        long errors = counts.entrySet().stream()
+                .filter(entry -> !entry.getKey().startsWith("2"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        out.printf(
+                "%-38s %8d %9.1f %9.1f %9.1f %9.1f %9.1f %7d  %s%n",
+                name,
+                latency.getTotalCount(),
+                latency.getTotalCount() / seconds,
+                millis(latency, 50),
+                millis(latency, 99),
+                millis(latency, 99.9),
+                latency.getMaxValue() / 1000.0,
+                errors,
+                counts);
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Map<String, Long> counts(Map<String, LongAdder> outcomes) {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+
+    private static String tag(String tags, String name) {
+        Matcher tag = Pattern.compile("(?:^|,)" + name + "=\"([^\"]*)\"").matcher(tags);
+        return tag.find() ? tag.group(1) : "unknown";
+    }
+
+    static String pretty(Duration duration) {
+        return duration.toString().substring(2).toLowerCase();
+    }
+}
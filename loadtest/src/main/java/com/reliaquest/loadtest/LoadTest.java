@@ -0,0 +1,75 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the mock server and the api on local ports, offers the configured mix of {@code IEmployeeController}
+ * operations at a constant arrival rate, and writes the report. Run it with {@code ./gradlew :loadtest:run}; every
+ * setting is a {@code loadtest.*} system property, see {@link LoadTestConfig}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path logs = config.report().toAbsolutePath().getParent();
+        Files.createDirectories(logs);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        URI server = URI.create("http://localhost:" + config.serverPort() + "/api/v1/employee");
+        URI api = URI.create("http://localhost:" + config.apiPort());
+        try (LocalApplication serverApplication = LocalApplication.start(
+                        "server",
+                        config.serverClasspath(),
+                        "com.reliaquest.server.ServerApplication",
+                        arguments(config.serverArgs(), "--server.port=" + config.serverPort()),
+                        logs.resolve("server.log"));
+                LocalApplication apiApplication = LocalApplication.start(
+                        "api",
+                        config.apiClasspath(),
+                        "com.reliaquest.api.ApiApplication",
+                        arguments(
+                                config.apiArgs(),
+                                "--server.port=" + config.apiPort(),
+                                "--employeeService.url=" + server),
+                        logs.resolve("api.log"))) {
+            serverApplication.awaitReady(client, server, Duration.ofSeconds(90));
+            apiApplication.awaitReady(client, api.resolve("/actuator/health"), Duration.ofSeconds(90));
+
+            Workload workload = new Workload(api.resolve(config.basePath()), config.timeout());
+            workload.seed(client, 10);
+            System.out.printf(
+                    "Offering %.1f requests/s for %s after a %s warm-up%n",
+                    config.rate(), LoadReport.pretty(config.duration()), LoadReport.pretty(config.warmUp()));
+            LoadReport report = new LoadGenerator(config, client, workload).run();
+            report.downstream(client.send(
+                            HttpRequest.newBuilder(api.resolve("/actuator/prometheus"))
+                                    .build(),
+                            HttpResponse.BodyHandlers.ofString())
+                    .body());
+            report.write(config.report());
+            report.write(System.out, false);
+            System.out.println("Report written to " + config.report().toAbsolutePath());
+        }
+    }
+
+    private static List<String> arguments(List<String> extra, String... fixed) {
+        List<String> arguments = new ArrayList<>(List.of(fixed));
+        arguments.addAll(extra);
+        return arguments;
+    }
+}
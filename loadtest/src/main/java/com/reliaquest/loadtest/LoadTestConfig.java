@@ -0,0 +1,74 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (the Gradle {@code run} task forwards them).
+ * Durations are written as {@code 90s}, {@code 2m} or {@code 1m30s}.
+ */
+record LoadTestConfig(
+        double rate,
+        Duration warmUp,
+        Duration duration,
+        Duration timeout,
+        OperationMix mix,
+        String basePath,
+        int serverPort,
+        int apiPort,
+        List<String> serverArgs,
+        List<String> apiArgs,
+        String serverClasspath,
+        String apiClasspath,
+        Path report) {
+
+    static final String DEFAULT_MIX = "getAllEmployees=30,getEmployeesByNameSearch=20,getEmployeeById=25,"
+            + "getHighestSalaryOfEmployees=5,getTopTenHighestEarningEmployeeNames=5,createEmployee=10,"
+            + "deleteEmployeeById=5";
+
+    static LoadTestConfig fromSystemProperties() {
+        double rate = Double.parseDouble(property("rate", "20"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive");
+        }
+        return new LoadTestConfig(
+                rate,
+                duration(property("warmUp", "10s")),
+                duration(property("duration", "60s")),
+                duration(property("timeout", "10s")),
+                OperationMix.parse(property("mix", DEFAULT_MIX)),
+                property("basePath", "/v1/api/iemployee"),
+                Integer.parseInt(property("serverPort", "18112")),
+                Integer.parseInt(property("apiPort", "18111")),
+                arguments(property("serverArgs", "")),
+                arguments(property("apiArgs", "")),
+                required("serverClasspath"),
+                required("apiClasspath"),
+                Path.of(property("report", "build/loadtest/report.txt")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty("loadtest." + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(
+                    "loadtest." + name + " is not set; start the load test with " + "./gradlew :loadtest:run");
+        }
+        return value;
+    }
+
+    private static Duration duration(String value) {
+        return Duration.parse("PT" + value.trim());
+    }
+
+    private static List<String> arguments(String value) {
+        return Arrays.stream(value.trim().split("\\s+"))
+                .filter(argument -> !argument.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.loadtest;
+
+/**
+ * The seven {@code IEmployeeController} operations, named in mixes and reports by their controller method.
+ */
+enum Operation {
+    GET_ALL_EMPLOYEES("getAllEmployees"),
+    GET_EMPLOYEES_BY_NAME_SEARCH("getEmployeesByNameSearch"),
+    GET_EMPLOYEE_BY_ID("getEmployeeById"),
+    GET_HIGHEST_SALARY_OF_EMPLOYEES("getHighestSalaryOfEmployees"),
+    GET_TOP_TEN_HIGHEST_EARNING_EMPLOYEE_NAMES("getTopTenHighestEarningEmployeeNames"),
+    CREATE_EMPLOYEE("createEmployee"),
+    DELETE_EMPLOYEE_BY_ID("deleteEmployeeById");
+
+    final String controllerMethod;
+
+    Operation(String controllerMethod) {
+        this.controllerMethod = controllerMethod;
+    }
+
+    static Operation forControllerMethod(String controllerMethod) {
+        for (Operation operation : values()) {
+            if (operation.controllerMethod.equals(controllerMethod)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + controllerMethod + "'");
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds each operation's request against the api and learns from the answers: lookups and searches use ids and
+ * names from the roster and from employees this run created, and deletes remove only employees this run created, so
+ * the roster size stays roughly steady.
+ */
+final class Workload {
+
+    private final URI base;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<UUID> knownIds = new CopyOnWriteArrayList<>();
+    private final List<String> knownNames = new CopyOnWriteArrayList<>();
+    private final Queue<UUID> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong creates = new AtomicLong();
+
+    Workload(URI base, Duration timeout) {
+        this.base = base;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Learns the current roster, retrying while the api has nothing to show yet (its first roster fetch may be rate
+     * limited by the server).
+     */
+    void seed(HttpClient client, int attempts) throws InterruptedException {
+        for (int attempt = 1; attempt <= attempts && knownIds.isEmpty(); attempt++) {
+            try {
+                HttpResponse<String> response = client.send(get(""), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    for (JsonNode employee : objectMapper.readTree(response.body())) {
+                        remember(employee);
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Roster seed attempt " + attempt + " failed: " + e);
+            }
+            if (knownIds.isEmpty()) {
+                Thread.sleep(2000);
+            }
+        }
+        System.out.println("Seeded " + knownIds.size() + " employees from the roster");
+    }
+
+    HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case GET_ALL_EMPLOYEES -> get("");
+            case GET_EMPLOYEES_BY_NAME_SEARCH -> get("/search/"
+                    + URLEncoder.encode(searchString(), StandardCharsets.UTF_8).replace("+", "%20"));
+            case GET_EMPLOYEE_BY_ID -> get("/" + anyId());
+            case GET_HIGHEST_SALARY_OF_EMPLOYEES -> get("/highestSalary");
+            case GET_TOP_TEN_HIGHEST_EARNING_EMPLOYEE_NAMES -> get("/topTenHighestEarningEmployeeNames");
+            case CREATE_EMPLOYEE -> create();
+            case DELETE_EMPLOYEE_BY_ID -> delete();
+        };
+    }
+
+    void completed(Operation operation, HttpResponse<String> response) {
+        if (operation == Operation.CREATE_EMPLOYEE && response.statusCode() / 100 == 2) {
+            try {
+                JsonNode employee = objectMapper.readTree(response.body());
+                UUID id = remember(employee);
+                if (id != null) {
+                    createdIds.add(id);
+                }
+            } catch (IOException e) {
+                // a fallback body without an employee; nothing to learn from it
+            }
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest create() {
+        long n = creates.incrementAndGet();
+        Map<String, Object> input = Map.of(
+                "name", "Load Test " + n,
+                "salary", 30000 + ThreadLocalRandom.current().nextInt(200000),
+                "age", 16 + ThreadLocalRandom.current().nextInt(60),
+                "title", "Load Tester");
+        try {
+            return builder("")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(input)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest delete() {
+        UUID id = createdIds.poll();
+        if (id == null) {
+            // nothing of ours left to delete: exercise the not-found path instead of deleting seeded employees
+            id = UUID.randomUUID();
+        } else {
+            knownIds.remove(id);
+        }
+        return builder("/" + id).DELETE().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).timeout(timeout);
+    }
+
+    private UUID anyId() {
+        return knownIds.isEmpty()
+                ? UUID.randomUUID()
+                : knownIds.get(ThreadLocalRandom.current().nextInt(knownIds.size()));
+    }
+
+    private String searchString() {
+        if (knownNames.isEmpty()) {
+            return "an";
+        }
+        String name = knownNames.get(ThreadLocalRandom.current().nextInt(knownNames.size()));
+        int start = ThreadLocalRandom.current().nextInt(Math.max(1, name.length() - 2));
+        return name.substring(start, Math.min(name.length(), start + 3));
+    }
+
+    private UUID remember(JsonNode employee) {
+        JsonNode id = employee.get("id");
+        if (id == null || id.isNull()) {
+            return null;
+        }
+        UUID uuid = UUID.fromString(id.asText());
+        knownIds.add(uuid);
+        JsonNode name = employee.get("employee_name");
+        if (name != null && !name.isNull()) {
+            knownNames.add(name.asText());
+        }
+        return uuid;
+    }
+}
@@ -3,34 +3,88 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeEventService;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
-@RequiredArgsConstructor
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final MockEmployeeEventService mockEmployeeEventService;
+    private final int maxPageSize;
 
+    public MockEmployeeController(
+            MockEmployeeService mockEmployeeService,
+            MockEmployeeEventService mockEmployeeEventService,
+            @Value("${mock.employees.page.max-size:100}") int maxPageSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.mockEmployeeEventService = mockEmployeeEventService;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /*
+     * Answers 304 Not Modified with no body when If-None-Match carries the current roster's ETag.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
+    public Response<List<MockEmployee>> getEmployees(WebRequest request) {
+        if (request.checkNotModified(mockEmployeeService.etag())) {
+            return null;
+        }
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    /*
+     * Keyset pagination on id: pass the previous page's nextCursor as after. The limit is clamped to [1, max-size].
+     */
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(value = "after", required = false) UUID after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        final var pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        return Response.handledWith(mockEmployeeService.page(after, pageSize));
+    }
+
+    /*
+     * Change log after sequence number since, for a roster fetched with ETag "<epoch>-<since>". Answers with
+     * resyncRequired set when that roster can no longer be brought up to date from the log.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getEmployeeChanges(
+            @RequestParam("epoch") String epoch, @RequestParam("since") long since) {
+        return Response.handledWith(mockEmployeeService.changesSince(epoch, since));
+    }
+
+    /*
+     * Server-sent events: created and deleted notifications with ids "<epoch>-<sequence>", resumed after Last-Event-ID.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployeeEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return mockEmployeeEventService.subscribe(lastEventId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
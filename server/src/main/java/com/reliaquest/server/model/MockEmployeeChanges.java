@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes after a given sequence number, oldest first, up to {@code sequence}, the latest one. When
+ * {@code resyncRequired} is set the log no longer covers the requested range (or the request came from another run of
+ * the server) and {@code changes} is empty: the caller has to fetch the full roster again.
+ */
+public record MockEmployeeChanges(
+        String epoch, long sequence, boolean resyncRequired, List<MockEmployeeChange> changes) {
+
+    public static MockEmployeeChanges resync(String epoch, long sequence) {
+        return new MockEmployeeChanges(epoch, sequence, true, List.of());
+    }
+}
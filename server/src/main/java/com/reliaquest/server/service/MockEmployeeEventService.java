@@ -0,0 +1,149 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes roster changes to server-sent event subscribers. Every event's id is {@code "<epoch>-<sequence>"}, the same
+ * position the roster ETag names, so a subscriber that reconnects with {@code Last-Event-ID} is replayed what it
+ * missed from the change log. When the log cannot cover the gap the stream starts with a {@code resync} event instead.
+ * <p>
+ * Each subscriber has its own bounded queue drained by its own virtual thread, so a slow subscriber only delays
+ * itself. One that falls {@code queue-size} changes behind has its stream closed and resumes on reconnect.
+ */
+@Slf4j
+@Service
+public class MockEmployeeEventService {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final int queueSize;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    public MockEmployeeEventService(
+            MockEmployeeService mockEmployeeService,
+            @Value("${mock.employees.events.timeout:30m}") Duration timeout,
+            @Value("${mock.employees.events.heartbeat:15s}") Duration heartbeat,
+            @Value("${mock.employees.events.queue-size:256}") int queueSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.queueSize = Math.max(1, queueSize);
+        mockEmployeeService.addChangeListener(this::publish);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = new SseEmitter(timeout.toMillis());
+        final var subscription = new Subscription(emitter, new ArrayBlockingQueue<>(queueSize));
+        // registered before the backlog is read so no change falls between the two; overlaps are skipped by sequence
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> close(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(error -> close(subscription));
+        final var backlog = backlog(lastEventId);
+        Thread.ofVirtual().name("employee-events").start(() -> subscription.run(backlog));
+        log.debug("Event subscriber connected after {}, {} subscribers", lastEventId, subscriptions.size());
+        return emitter;
+    }
+
+    private MockEmployeeChanges backlog(String lastEventId) {
+        final var separator = lastEventId == null ? -1 : lastEventId.lastIndexOf('-');
+        if (separator <= 0) {
+            return mockEmployeeService.changesSince(null, -1);
+        }
+        try {
+            return mockEmployeeService.changesSince(
+                    lastEventId.substring(0, separator), Long.parseLong(lastEventId.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return mockEmployeeService.changesSince(null, -1);
+        }
+    }
+
+    private void publish(MockEmployeeChange change) {
+        for (final var subscription : subscriptions) {
+            if (!subscription.queue.offer(change)) {
+                subscription.overflowed = true;
+            }
+        }
+    }
+
+    private void close(Subscription subscription) {
+        subscription.closed = true;
+        subscriptions.remove(subscription);
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<MockEmployeeChange> queue;
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, BlockingQueue<MockEmployeeChange> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void run(MockEmployeeChanges backlog) {
+            final var epoch = backlog.epoch();
+            var last = backlog.sequence();
+            try {
+                if (backlog.resyncRequired()) {
+                    emitter.send(SseEmitter.event()
+                            .id(epoch + "-" + last)
+                            .name("resync")
+                            .data(last));
+                }
+                for (final var change : backlog.changes()) {
+                    send(epoch, change);
+                }
+                while (!closed) {
+                    final var change = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (overflowed) {
+                        log.debug("Event subscriber fell {} changes behind, closing its stream", queueSize);
+                        emitter.complete();
+                        return;
+                    }
+                    if (change == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (change.sequence() > last) {
+                        send(epoch, change);
+                        last = change.sequence();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event subscriber went away {}", e.getMessage());
+                close(this);
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        }
+
+        private void send(String epoch, MockEmployeeChange change) throws IOException {
+            // deletes carry only the id
+            final var compact = change.type() == MockEmployeeChange.Type.DELETED
+                    ? new MockEmployeeChange(change.sequence(), change.type(), change.id(), null)
+                    : change;
+            emitter.send(SseEmitter.event()
+                    .id(epoch + "-" + change.sequence())
+                    .name(change.type().name().toLowerCase(Locale.ROOT))
+                    .data(compact, MediaType.APPLICATION_JSON));
+        }
+    }
+}
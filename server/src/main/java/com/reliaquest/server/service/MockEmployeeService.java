@@ -4,20 +4,31 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
@@ -25,6 +36,79 @@ public class MockEmployeeService {
     @Getter
     private final List<MockEmployee> mockEmployees;
 
+    /*
+     * Same employees keyed by id, for keyset pagination; kept in step with the list on create and delete.
+     */
+    private final NavigableMap<UUID, MockEmployee> mockEmployeesById = new ConcurrentSkipListMap<>();
+
+    /*
+     * Roster version, bumped after every create and delete and used as the change log sequence number. The epoch tells
+     * this run's versions apart from an earlier run's.
+     */
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final AtomicLong version = new AtomicLong();
+
+    /*
+     * The last maxChanges changes, oldest first. Guarded by itself, as is appending a change together with bumping the
+     * version, so entries are in sequence order with no gaps.
+     */
+    private final Deque<MockEmployeeChange> changeLog = new ArrayDeque<>();
+
+    private final int maxChanges;
+
+    private final List<Consumer<MockEmployeeChange>> changeListeners = new CopyOnWriteArrayList<>();
+
+    public MockEmployeeService(
+            Faker faker,
+            List<MockEmployee> mockEmployees,
+            @Value("${mock.employees.changes.max-size:1000}") int maxChanges) {
+        this.faker = faker;
+        this.mockEmployees = mockEmployees;
+        this.maxChanges = Math.max(1, maxChanges);
+        mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()))
+                .forEach(mockEmployee -> mockEmployeesById.put(mockEmployee.getId(), mockEmployee));
+    }
+
+    /**
+     * Strong entity tag of the current roster, {@code "<epoch>-<version>"}. Read it before the roster, so a concurrent
+     * change can only make the tag older than the content.
+     */
+    public String etag() {
+        return "\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * Changes with a sequence number greater than {@code since}, or a resync signal when {@code epoch} is not this
+     * run's or the log no longer reaches back to {@code since}.
+     */
+    public MockEmployeeChanges changesSince(String epoch, long since) {
+        synchronized (changeLog) {
+            final var latest = version.get();
+            if (!this.epoch.equals(epoch) || since < 0 || since > latest) {
+                return MockEmployeeChanges.resync(this.epoch, latest);
+            }
+            final var oldest =
+                    changeLog.isEmpty() ? latest + 1 : changeLog.peekFirst().sequence();
+            if (oldest > since + 1) {
+                return MockEmployeeChanges.resync(this.epoch, latest);
+            }
+            final var changes = changeLog.stream()
+                    .filter(change -> change.sequence() > since)
+                    .toList();
+            return new MockEmployeeChanges(this.epoch, latest, false, changes);
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be handed every change as it is recorded, in sequence order. It is called while the
+     * change log is locked and must not block.
+     */
+    public void addChangeListener(Consumer<MockEmployeeChange> listener) {
+        changeListeners.add(listener);
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
         return mockEmployees.stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
@@ -32,12 +116,29 @@ public class MockEmployeeService {
                 .findFirst();
     }
 
+    /**
+     * Up to {@code limit} employees with an id greater than {@code after}, or from the first id if it is null.
+     */
+    public MockEmployeePage page(UUID after, int limit) {
+        final var remaining = after == null ? mockEmployeesById : mockEmployeesById.tailMap(after, false);
+        final var employees = new ArrayList<MockEmployee>(limit);
+        for (MockEmployee mockEmployee : remaining.values()) {
+            if (employees.size() == limit) {
+                return new MockEmployeePage(employees, employees.get(limit - 1).getId());
+            }
+            employees.add(mockEmployee);
+        }
+        return new MockEmployeePage(employees, null);
+    }
+
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
         mockEmployees.add(mockEmployee);
+        mockEmployeesById.put(mockEmployee.getId(), mockEmployee);
+        recordChange(MockEmployeeChange.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
@@ -49,10 +150,24 @@ public class MockEmployeeService {
                 .findFirst();
         if (mockEmployee.isPresent()) {
             mockEmployees.remove(mockEmployee.get());
+            mockEmployeesById.remove(mockEmployee.get().getId());
+            recordChange(MockEmployeeChange.Type.DELETED, mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private void recordChange(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        synchronized (changeLog) {
+            final var change =
+                    new MockEmployeeChange(version.incrementAndGet(), type, mockEmployee.getId(), mockEmployee);
+            changeLog.addLast(change);
+            if (changeLog.size() > maxChanges) {
+                changeLog.removeFirst();
+            }
+            changeListeners.forEach(listener -> listener.accept(change));
+        }
+    }
 }